@@ -0,0 +1,57 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.SeatingConstraint;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.ConstrainedSeating;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SeatingPlanner#planSeating(List, java.util.Collection)} for 20k
+ * guests: one "together" rule per four guests, topped up with random
+ * "apart" rules to {@code rules} in total.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConstraintSolverBenchmark {
+    private static final int GUESTS = 20_000;
+
+    @Param({"20000", "100000"})
+    int rules;
+
+    private SeatingPlanner planner;
+    private List<Guest> guests;
+    private List<SeatingConstraint> constraints;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(15);
+        guests = new ArrayList<>(GUESTS);
+        for (int i = 0; i < GUESTS; i++) {
+            guests.add(new Guest("G" + i, "group" + (i % 3000)));
+        }
+        constraints = new ArrayList<>(rules);
+        for (int i = 0; i + 1 < GUESTS; i += 4) {
+            constraints.add(SeatingConstraint.together("G" + i, "G" + (i + 1)));
+        }
+        while (constraints.size() < rules) {
+            constraints.add(SeatingConstraint.apart("G" + random.nextInt(GUESTS), "G" + random.nextInt(GUESTS)));
+        }
+        planner = new SeatingPlanner(new Venue("Bench Arena", 0, 21_000, 2_100, 10));
+    }
+
+    @Benchmark
+    public ConstrainedSeating planSeating() {
+        return planner.planSeating(guests, constraints);
+    }
+}
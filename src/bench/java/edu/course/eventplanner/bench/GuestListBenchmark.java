@@ -0,0 +1,100 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-operation costs of {@link GuestListManager} at a given list size.
+ * Mutating benchmarks pair an add with a remove so the size stays put.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class GuestListBenchmark {
+    private static final String[] GROUPS = {"family", "friends", "neighbors", "coworkers"};
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    private GuestListManager manager;
+    private String[] names;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new GuestListManager();
+        manager.ensureCapacity(size);
+        names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "Guest" + i;
+            manager.addGuest(new Guest(names[i], GROUPS[i & 3]));
+        }
+        nextId = size;
+    }
+
+    @Benchmark
+    public Guest findHit() {
+        return manager.findGuest(names[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public Guest findMiss() {
+        return manager.findGuest("Missing" + random.nextInt(size));
+    }
+
+    /** One mistyped character, the lookup Main makes on a miss. */
+    @Benchmark
+    public List<Guest> findSimilarOneEdit() {
+        String name = names[random.nextInt(size)];
+        return manager.findSimilar(name.substring(0, name.length() - 1) + 'x', 1);
+    }
+
+    /** Two mistyped characters, for comparison with the one-edit lookup. */
+    @Benchmark
+    public List<Guest> findSimilarTwoEdits() {
+        String name = names[random.nextInt(size)];
+        return manager.findSimilar("x" + name.substring(1, name.length() - 1) + 'x', 2);
+    }
+
+    /** Adds a fresh guest and removes it again. */
+    @Benchmark
+    public boolean addThenRemove() {
+        String name = "New" + nextId++;
+        manager.addGuest(new Guest(name, "friends"));
+        return manager.removeGuest(name);
+    }
+
+    /** Removes a random existing guest and adds it back at the end of the list. */
+    @Benchmark
+    public void removeThenAdd() {
+        int i = random.nextInt(size);
+        manager.removeGuest(names[i]);
+        manager.addGuest(new Guest(names[i], GROUPS[i & 3]));
+    }
+
+    /** Full pass over the guest list; divide by {@code size} for the per-guest cost. */
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Guest guest : manager.getAllGuests()) {
+            blackhole.consume(guest);
+        }
+    }
+
+    /** Full pass over an O(1) snapshot. */
+    @Benchmark
+    public void iterateSnapshot(Blackhole blackhole) {
+        for (Guest guest : manager.snapshot()) {
+            blackhole.consume(guest);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.IncrementalSeating;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single guest changes applied to an {@link IncrementalSeating} plan of
+ * {@code guests} guests. Each operation adds a fresh guest and removes a
+ * random one, so the plan size stays put; halve the time for one change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IncrementalSeatingBenchmark {
+    @Param({"50000"})
+    int guests;
+
+    private IncrementalSeating seating;
+    private List<Guest> present;
+    private final SplittableRandom random = new SplittableRandom(5);
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        present = new ArrayList<>(guests + 1);
+        for (int i = 0; i < guests; i++) {
+            present.add(new Guest("Guest" + i, "group" + random.nextInt(guests / 5)));
+        }
+        int tables = guests * 12 / 100;
+        seating = new IncrementalSeating(new Venue("Bench Arena", 0, tables * 10, tables, 10), present);
+        nextId = guests;
+    }
+
+    @Benchmark
+    public void addThenRemove() {
+        Guest guest = new Guest("New" + nextId++, "group" + random.nextInt(guests / 5));
+        present.add(guest);
+        seating.guestAdded(guest);
+        int i = random.nextInt(present.size());
+        Guest gone = present.get(i);
+        present.set(i, present.get(present.size() - 1));
+        present.remove(present.size() - 1);
+        seating.guestRemoved(gone);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.metrics.ServiceMetrics;
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ServiceMetrics} on the cheapest instrumented call,
+ * {@code findGuest}, with collection switched off and on. Run with
+ * {@code -t 4} as well to see contention on the shared histogram.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    private static final int SIZE = 100_000;
+
+    @Param({"false", "true"})
+    boolean enabled;
+
+    private GuestListManager manager;
+    private String[] names;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new GuestListManager();
+        names = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = "Guest" + i;
+            manager.addGuest(new Guest(names[i], "family"));
+        }
+        ServiceMetrics.setEnabled(enabled);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ServiceMetrics.setEnabled(false);
+    }
+
+    @Benchmark
+    public Guest findGuest(Cursor cursor) {
+        return manager.findGuest(names[cursor.random.nextInt(SIZE)]);
+    }
+}
@@ -0,0 +1,51 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.MultiVenuePlan;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SeatingPlanner#planAcross} for 100k guests per hall, in groups
+ * of five on average, with each hall about 90% full.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MultiVenueBenchmark {
+    private static final int GUESTS_PER_HALL = 100_000;
+
+    @Param({"1", "4"})
+    int halls;
+
+    private List<Venue> venues;
+    private List<Guest> guests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(16);
+        int count = GUESTS_PER_HALL * halls;
+        guests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(count / 5)));
+        }
+        venues = new ArrayList<>(halls);
+        for (int h = 0; h < halls; h++) {
+            venues.add(new Venue("Hall" + h, 0, 110_000, 11_000, 10));
+        }
+    }
+
+    @Benchmark
+    public MultiVenuePlan planAcross() {
+        return SeatingPlanner.planAcross(venues, guests);
+    }
+}
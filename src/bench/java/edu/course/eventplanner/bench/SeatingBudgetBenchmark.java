@@ -0,0 +1,50 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-boxed runs of {@link SeatingPlanner#optimizeSeating(List, Duration)}
+ * on the common pool. A run should take its budget and little more, so the
+ * score minus {@code budgetMillis} is the cost of stopping and building the
+ * plan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SeatingBudgetBenchmark {
+    @Param({"300"})
+    long budgetMillis;
+
+    private SeatingPlanner planner;
+    private List<Guest> guests;
+    private Duration budget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        guests = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(3000)));
+        }
+        planner = new SeatingPlanner(new Venue("Bench Hall", 0, 20_000, 2000, 10));
+        budget = Duration.ofMillis(budgetMillis);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Guest>> optimizeWithinBudget() {
+        return planner.optimizeSeating(guests, budget);
+    }
+}
@@ -0,0 +1,80 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.SeatingPlan;
+import edu.course.eventplanner.service.SeatingPlanner;
+import edu.course.eventplanner.util.SeatingExporter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a 100k-guest seating chart to a file: {@link SeatingExporter}
+ * against one {@code println} per guest on a stream set up the way
+ * {@code System.out} is (a 128-byte buffer that flushes on every line).
+ * Run with {@code -prof gc} to see the allocation per chart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SeatingExportBenchmark {
+    private SeatingPlan plan;
+    private SeatingExporter exporter;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(20_000)));
+        }
+        plan = new SeatingPlanner(new Venue("Bench Hall", 0, 110_000, 11_000, 10)).planSeating(guests);
+        exporter = new SeatingExporter();
+        file = Files.createTempFile("seating", ".out");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long exportCsv() throws IOException {
+        return exporter.writeCsv(plan, file);
+    }
+
+    @Benchmark
+    public long exportJson() throws IOException {
+        return exporter.writeJson(plan, file);
+    }
+
+    @Benchmark
+    public int printlnCsv() throws IOException {
+        try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(file.toFile()), 128),
+                true, StandardCharsets.UTF_8)) {
+            out.println("table,name,group");
+            for (int table = 1; table <= plan.getTableCount(); table++) {
+                for (int p = plan.tableStart(table); p < plan.tableEnd(table); p++) {
+                    Guest guest = plan.guestAt(p);
+                    out.println(table + "," + guest.getName() + "," + guest.getGroupTag());
+                }
+            }
+            return plan.getSeatedCount();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-iteration runs of {@link SeatingPlanner#optimizeSeating}. Every
+ * worker makes the same number of moves, so with linear scaling the time
+ * per run stays flat as {@code workers} grows up to the core count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SeatingOptimizerBenchmark {
+    private static final long MOVES_PER_WORKER = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    private SeatingPlanner planner;
+    private List<Guest> guests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        guests = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(3000)));
+        }
+        planner = new SeatingPlanner(new Venue("Bench Hall", 0, 20_000, 2000, 10));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Guest>> optimize() {
+        return planner.optimizeSeating(guests, 7, workers, MOVES_PER_WORKER);
+    }
+}
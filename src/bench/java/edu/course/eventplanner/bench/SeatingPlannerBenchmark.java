@@ -0,0 +1,77 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.GuestListManager;
+import edu.course.eventplanner.service.SeatingCache;
+import edu.course.eventplanner.service.SeatingPlan;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SeatingPlanner#generateSeating} for a whole event, and the same
+ * plan served by a {@link SeatingCache}. {@code fill} is
+ * the share of seats the guests take, so it sets the guest/table ratio;
+ * 20000 groups of 100k guests gives the many small parties of a large event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SeatingPlannerBenchmark {
+    @Param({"1000", "100000"})
+    int guests;
+
+    @Param({"8"})
+    int seatsPerTable;
+
+    @Param({"0.5", "0.9", "1.0"})
+    double fill;
+
+    @Param({"4", "1000", "20000"})
+    int groups;
+
+    private SeatingPlanner planner;
+    private List<Guest> guestList;
+    private Venue venue;
+    private SeatingCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        guestList = new ArrayList<>(guests);
+        for (int i = 0; i < guests; i++) {
+            guestList.add(new Guest("Guest" + i, "group" + random.nextInt(groups)));
+        }
+        int tables = (int) Math.ceil(guests / fill / seatsPerTable);
+        venue = new Venue("Bench Hall", 0, tables * seatsPerTable, tables, seatsPerTable);
+        planner = new SeatingPlanner(venue);
+        GuestListManager manager = new GuestListManager();
+        manager.addAll(guestList);
+        cache = new SeatingCache(manager);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Guest>> generateSeating() {
+        return planner.generateSeating(guestList);
+    }
+
+    @Benchmark
+    public SeatingPlan planSeating() {
+        return planner.planSeating(guestList);
+    }
+
+    /** Repeated request against an unchanged list: a cache hit. */
+    @Benchmark
+    public SeatingPlan cachedPlanSeating() {
+        return cache.planSeating(venue);
+    }
+}
@@ -0,0 +1,104 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.SeatingConstraint;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.IncrementalSeating;
+import edu.course.eventplanner.service.SeatingPlanner;
+import edu.course.eventplanner.service.SeatingScore;
+import edu.course.eventplanner.service.SeatingScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every seating strategy over generated workloads and reports plan
+ * quality next to runtime. The quality of the last plan made in an
+ * iteration is published through JMH auxiliary counters, so each result row
+ * carries {@code groupsPerTable}, {@code splitGroups}, {@code fillVariance}
+ * and {@code violations} beside the time per plan. Every strategy is scored
+ * against the same "apart" rules, so strategies that ignore the rules show
+ * what ignoring them costs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SeatingStrategyBenchmark {
+    private static final int GUESTS = 20_000;
+
+    /** Guests per group: all small parties, a few large ones, or a long-tailed mix. */
+    @Param({"small", "large", "mixed"})
+    String workload;
+
+    @Param({"packed", "optimized", "constrained", "incremental", "twoHalls"})
+    String strategy;
+
+    private List<Guest> guests;
+    private List<SeatingConstraint> constraints;
+    private Venue venue;
+    private List<Venue> halls;
+    private SeatingPlanner planner;
+
+    /** Score of the most recent plan, reported as secondary results. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Quality {
+        public double groupsPerTable;
+        public long splitGroups;
+        public double fillVariance;
+        public long violations;
+
+        void record(SeatingScore score) {
+            groupsPerTable = score.getGroupsPerTable();
+            splitGroups = score.getSplitGroups();
+            fillVariance = score.getFillVariance();
+            violations = score.getConstraintViolations();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        guests = new ArrayList<>(GUESTS);
+        int group = 0;
+        while (guests.size() < GUESTS) {
+            int size = switch (workload) {
+                case "small" -> 1 + random.nextInt(6);
+                case "large" -> 20 + random.nextInt(60);
+                default -> (int) Math.min(200, 1 / (1 - random.nextDouble()));
+            };
+            for (int i = 0; i < size && guests.size() < GUESTS; i++) {
+                guests.add(new Guest("Guest" + guests.size(), "group" + group));
+            }
+            group++;
+        }
+        constraints = new ArrayList<>();
+        for (int i = 0; i < GUESTS; i++) {
+            constraints.add(SeatingConstraint.apart("Guest" + random.nextInt(GUESTS),
+                    "Guest" + random.nextInt(GUESTS)));
+        }
+        venue = new Venue("Bench Hall", 0, 22_000, 2_200, 10);
+        halls = List.of(new Venue("East", 0, 11_000, 1_100, 10), new Venue("West", 0, 11_000, 1_100, 10));
+        planner = new SeatingPlanner(venue);
+    }
+
+    @Benchmark
+    public SeatingScore seatAndScore(Quality quality) {
+        SeatingScore score = switch (strategy) {
+            case "packed" -> SeatingScorer.score(planner.planSeating(guests), constraints);
+            case "optimized" -> SeatingScorer.score(planner.optimizeSeating(guests, 7, 1, 2_000_000), constraints);
+            case "constrained" -> SeatingScorer.score(planner.planSeating(guests, constraints).getPlan(), constraints);
+            case "incremental" -> SeatingScorer.score(new IncrementalSeating(venue, guests).toMap(), constraints);
+            case "twoHalls" -> SeatingScorer.score(SeatingPlanner.planAcross(halls, guests), constraints);
+            default -> throw new IllegalArgumentException(strategy);
+        };
+        quality.record(score);
+        return score;
+    }
+}
@@ -0,0 +1,41 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Task;
+import edu.course.eventplanner.service.TaskManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One add/execute/undo cycle on a {@link TaskManager} that already holds
+ * {@code backlog} pending tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskManagerBenchmark {
+    @Param({"10", "100000"})
+    int backlog;
+
+    private TaskManager manager;
+    private final Task task = new Task("Bench task");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new TaskManager();
+        for (int i = 0; i < backlog; i++) {
+            manager.addTask(new Task("Task" + i));
+        }
+    }
+
+    @Benchmark
+    public void executeUndoCycle(Blackhole blackhole) {
+        manager.addTask(task);
+        blackhole.consume(manager.executeNextTask());
+        blackhole.consume(manager.undoLastTask());
+    }
+}
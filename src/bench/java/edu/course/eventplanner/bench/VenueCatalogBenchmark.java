@@ -0,0 +1,80 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.VenueSelector;
+import edu.course.eventplanner.util.VenueCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a 100k-venue catalog into a {@link VenueSelector}: the
+ * memory-mapped {@link VenueCatalog} on CSV and on the binary format,
+ * against reading the CSV line by line with {@code String.split} and
+ * {@code Double.parseDouble}. Every variant ends with the same selector
+ * build. Run with {@code -prof gc} to see the allocation per load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class VenueCatalogBenchmark {
+    private Path csv;
+    private Path binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Venue> venues = VenueSelectorBenchmark.randomVenues(100_000, new SplittableRandom(7));
+        csv = Files.createTempFile("venues", ".csv");
+        binary = Files.createTempFile("venues", ".bin");
+        try (BufferedWriter out = Files.newBufferedWriter(csv)) {
+            out.write("name,cost,capacity,tables,seatsPerTable\n");
+            for (Venue venue : venues) {
+                out.write(venue.getName() + "," + Math.round(venue.getCost() * 100) / 100.0 + ","
+                        + venue.getCapacity() + "," + venue.getTables() + "," + venue.getSeatsPerTable() + "\n");
+            }
+        }
+        VenueCatalog.writeBinary(venues, binary, 16);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(binary);
+    }
+
+    @Benchmark
+    public VenueSelector mappedCsv() throws IOException {
+        return VenueCatalog.open(csv).getSelector();
+    }
+
+    @Benchmark
+    public VenueSelector mappedBinary() throws IOException {
+        return VenueCatalog.open(binary).getSelector();
+    }
+
+    @Benchmark
+    public VenueSelector splitLines() throws IOException {
+        List<Venue> venues = new ArrayList<>();
+        try (BufferedReader in = Files.newBufferedReader(csv)) {
+            in.readLine();
+            for (String line; (line = in.readLine()) != null; ) {
+                String[] fields = line.split(",");
+                venues.add(new Venue(fields[0].trim(), Double.parseDouble(fields[1].trim()),
+                        Integer.parseInt(fields[2].trim()), Integer.parseInt(fields[3].trim()),
+                        Integer.parseInt(fields[4].trim())));
+            }
+        }
+        return new VenueSelector(venues);
+    }
+}
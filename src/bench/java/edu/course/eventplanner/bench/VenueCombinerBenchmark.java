@@ -0,0 +1,36 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.VenueCombiner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VenueCombiner#cheapestCombination} on a random 10k-venue catalog,
+ * for events far larger than any one venue, with an open budget.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class VenueCombinerBenchmark {
+    @Param({"5000", "20000", "50000"})
+    int guests;
+
+    private VenueCombiner combiner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        combiner = new VenueCombiner(VenueSelectorBenchmark.randomVenues(10_000, new SplittableRandom(7)));
+    }
+
+    @Benchmark
+    public List<Venue> cheapestCombination() {
+        return combiner.cheapestCombination(Double.POSITIVE_INFINITY, guests);
+    }
+}
@@ -0,0 +1,96 @@
+package edu.course.eventplanner.bench;
+
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.VenueSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VenueSelector#selectVenue} over large random venue catalogs, and
+ * keeping the skyline up to date as a venue leaves and comes back. The
+ * batch benchmarks answer the same {@value #BATCH} queries in a loop over
+ * {@code selectVenue} and through {@code selectVenues}, reported per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VenueSelectorBenchmark {
+    static final int BATCH = 1_000_000;
+
+    @Param({"1000", "100000", "1000000"})
+    int venues;
+
+    private VenueSelector selector;
+    private List<Venue> catalog;
+    private double[] budgets;
+    private int[] guestCounts;
+    private final Venue[] out = new Venue[BATCH];
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = randomVenues(venues, new SplittableRandom(7));
+        selector = new VenueSelector(catalog);
+        SplittableRandom queries = new SplittableRandom(11);
+        budgets = new double[BATCH];
+        guestCounts = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            budgets[i] = 1000 + queries.nextDouble() * 40_000;
+            guestCounts[i] = 10 + queries.nextInt(1500);
+        }
+    }
+
+    static List<Venue> randomVenues(int count, SplittableRandom random) {
+        List<Venue> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int seatsPerTable = 6 + random.nextInt(7);
+            int tables = 1 + random.nextInt(200);
+            int capacity = tables * seatsPerTable;
+            double cost = 200 + capacity * (5 + random.nextDouble() * 20);
+            list.add(new Venue("Venue" + i, cost, capacity, tables, seatsPerTable));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Venue selectVenue() {
+        return selector.selectVenue(1000 + random.nextDouble() * 40_000, 10 + random.nextInt(1500));
+    }
+
+    @Benchmark
+    public boolean replaceVenue() {
+        Venue venue = catalog.get(random.nextInt(catalog.size()));
+        selector.removeVenue(venue);
+        return selector.addVenue(venue);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Venue[] selectVenueLoop() {
+        for (int i = 0; i < BATCH; i++) {
+            out[i] = selector.selectVenue(budgets[i], guestCounts[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Venue[] selectVenues() {
+        selector.selectVenues(budgets, guestCounts, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Venue[] selectVenuesParallel() {
+        selector.selectVenues(budgets, guestCounts, out, true);
+        return out;
+    }
+}
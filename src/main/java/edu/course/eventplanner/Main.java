@@ -1,12 +1,21 @@
 package edu.course.eventplanner;
 
 import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
 import edu.course.eventplanner.service.GuestListManager;
+import edu.course.eventplanner.service.GuestListSnapshot;
+import edu.course.eventplanner.service.SeatingCache;
+import edu.course.eventplanner.service.SeatingPlan;
+import edu.course.eventplanner.service.VenueSelector;
+import edu.course.eventplanner.util.Generators;
+import java.util.List;
 import java.util.Scanner;
 
 public class Main {
     private static final Scanner scanner = new Scanner(System.in);
     private static final GuestListManager guestListManager = new GuestListManager();
+    // Seating is re-planned only after the guest list changes.
+    private static final SeatingCache seatingCache = new SeatingCache(guestListManager);
     private static double budget = 0.0;
 
     public static void main(String[] args) {
@@ -84,6 +93,7 @@ public class Main {
         System.out.println("4. Find Guest");
         System.out.println("5. Update Budget");
         System.out.println("6. Exit");
+        System.out.println("7. Find Guest's Table");
         System.out.println("===============================");
         System.out.print("Select an option: ");
 
@@ -108,6 +118,9 @@ public class Main {
                 break;
             case "6":
                 return false;
+            case "7":
+                findTableInteractive();
+                break;
             default:
                 System.out.println("Invalid option. Please try again.");
         }
@@ -161,15 +174,16 @@ public class Main {
             return;
         }
 
+        GuestListSnapshot snapshot = guestListManager.snapshot();
         System.out.println("========== GUEST LIST ==========");
         int index = 1;
-        for (Guest guest : guestListManager.getAllGuests()) {
+        for (Guest guest : snapshot) {
             System.out.println(index + ". " + guest.getName() +
                              " (Group: " + guest.getGroupTag() + ")");
             index++;
         }
         System.out.println("================================");
-        System.out.println("Total: " + guestListManager.getGuestCount() + " guest(s)");
+        System.out.println("Total: " + snapshot.size() + " guest(s)");
     }
 
     private static void findGuestInteractive() {
@@ -183,6 +197,52 @@ public class Main {
             System.out.println("  Group: " + guest.getGroupTag());
         } else {
             System.out.println("Guest '" + name + "' not found.");
+            // One edit keeps the lookup sub-millisecond on large lists; two edits does not.
+            List<Guest> suggestions = guestListManager.findSimilar(name, 1);
+            if (suggestions.isEmpty()) {
+                suggestions = guestListManager.findByPrefix(name, 5);
+            }
+            if (!suggestions.isEmpty()) {
+                System.out.println("Did you mean:");
+                for (Guest suggestion : suggestions.subList(0, Math.min(5, suggestions.size()))) {
+                    System.out.println("  " + suggestion.getName() + " (Group: " + suggestion.getGroupTag() + ")");
+                }
+            }
+        }
+    }
+
+    private static void findTableInteractive() {
+        Venue venue = new VenueSelector(Generators.generateVenues())
+                .selectVenue(budget, guestListManager.getGuestCount());
+        if (venue == null) {
+            System.out.println("No venue fits the budget and guest count, so nobody is seated yet.");
+            return;
+        }
+
+        System.out.print("Enter guest name to look up: ");
+        String name = scanner.nextLine().trim();
+
+        SeatingPlan plan;
+        try {
+            plan = seatingCache.planSeating(venue);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Could not seat the guests at " + venue.getName() + ": " + e.getMessage());
+            return;
+        }
+        int table = plan.tableFor(name);
+        if (table < 0) {
+            System.out.println("Guest '" + name + "' not found.");
+            return;
+        }
+        System.out.println(name + " is at table " + table + " in " + venue.getName() + ".");
+        List<Guest> mates = plan.tableMates(name);
+        if (mates.isEmpty()) {
+            System.out.println("Nobody else sits at that table.");
+        } else {
+            System.out.println("Seated with:");
+            for (Guest mate : mates) {
+                System.out.println("  " + mate.getName() + " (Group: " + mate.getGroupTag() + ")");
+            }
         }
     }
 
@@ -0,0 +1,19 @@
+package edu.course.eventplanner.metrics;
+
+/** Service operations that {@link ServiceMetrics} times. */
+public enum Operation {
+    ADD_GUEST("addGuest"),
+    REMOVE_GUEST("removeGuest"),
+    FIND_GUEST("findGuest"),
+    SELECT_VENUE("selectVenue"),
+    SELECT_VENUES("selectVenues"),
+    SELECT_COMBINATION("cheapestCombination"),
+    GENERATE_SEATING("generateSeating"),
+    EXECUTE_NEXT_TASK("executeNextTask");
+
+    private final String methodName;
+
+    Operation(String methodName) { this.methodName = methodName; }
+
+    public String getMethodName() { return methodName; }
+}
@@ -0,0 +1,139 @@
+package edu.course.eventplanner.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Per-operation call counts and latency histograms for the service layer.
+ * Instrumented methods bracket their work with {@link #start()} and
+ * {@link #stop}:
+ *
+ * <pre>
+ * long start = ServiceMetrics.start();
+ * ...
+ * ServiceMetrics.stop(Operation.FIND_GUEST, start);
+ * </pre>
+ *
+ * <p>Collection is off by default and can be switched at runtime with
+ * {@link #setEnabled}, over JMX, or at startup with
+ * {@code -Deventplanner.metrics=true}. When off, the cost is one volatile
+ * read per call; when on, two {@code System.nanoTime()} calls and a few
+ * atomic increments. Neither path allocates.
+ */
+public final class ServiceMetrics {
+    public static final String OBJECT_NAME = "edu.course.eventplanner:type=ServiceMetrics";
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[OPERATIONS.length];
+    private static volatile boolean enabled = Boolean.getBoolean("eventplanner.metrics");
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    private ServiceMetrics() {}
+
+    public static boolean isEnabled() { return enabled; }
+
+    public static void setEnabled(boolean on) { enabled = on; }
+
+    /** Returns the start timestamp to pass to {@link #stop}, or 0 when collection is off. */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Operation operation, long start) {
+        // A call that started while collection was off is not timed.
+        if (start != 0) {
+            HISTOGRAMS[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    public static LatencyHistogram histogram(Operation operation) {
+        return HISTOGRAMS[operation.ordinal()];
+    }
+
+    public static void reset() {
+        for (LatencyHistogram histogram : HISTOGRAMS) {
+            histogram.reset();
+        }
+    }
+
+    /** Plain text table of every operation's count and latency percentiles. */
+    public static String dump() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-16s %10s %10s %10s %10s %10s %10s %10s%n", "operation (us)", "count",
+                "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram histogram = histogram(operation);
+            out.append(String.format("%-16s %10d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                    operation.getMethodName(), histogram.getCount(), histogram.getMeanNanos() / 1000,
+                    micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(90)),
+                    micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+                    micros(histogram.getMaxNanos())));
+        }
+        return out.toString();
+    }
+
+    /** Registers the {@link ServiceMetricsMXBean} with the platform MBean server, once. */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered.
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private static final class MXBean implements ServiceMetricsMXBean {
+        @Override
+        public boolean isEnabled() { return ServiceMetrics.isEnabled(); }
+
+        @Override
+        public void setEnabled(boolean enabled) { ServiceMetrics.setEnabled(enabled); }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Operation operation : OPERATIONS) {
+                counts.put(operation.getMethodName(), histogram(operation).getCount());
+            }
+            return counts;
+        }
+
+        @Override
+        public Map<String, Double> getMeanMicros() { return perOperation(h -> h.getMeanNanos() / 1000); }
+
+        @Override
+        public Map<String, Double> getP99Micros() { return perOperation(h -> micros(h.getValueAtPercentile(99))); }
+
+        @Override
+        public Map<String, Double> getMaxMicros() { return perOperation(h -> micros(h.getMaxNanos())); }
+
+        @Override
+        public String dump() { return ServiceMetrics.dump(); }
+
+        @Override
+        public void reset() { ServiceMetrics.reset(); }
+
+        private static Map<String, Double> perOperation(ToDoubleFunction<LatencyHistogram> value) {
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (Operation operation : OPERATIONS) {
+                values.put(operation.getMethodName(), value.applyAsDouble(histogram(operation)));
+            }
+            return values;
+        }
+    }
+}
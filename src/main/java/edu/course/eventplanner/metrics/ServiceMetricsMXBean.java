@@ -0,0 +1,22 @@
+package edu.course.eventplanner.metrics;
+
+import java.util.Map;
+
+/** JMX view of {@link ServiceMetrics}; latencies are in microseconds. */
+public interface ServiceMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    Map<String, Long> getCounts();
+
+    Map<String, Double> getMeanMicros();
+
+    Map<String, Double> getP99Micros();
+
+    Map<String, Double> getMaxMicros();
+
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,29 @@
+package edu.course.eventplanner.model;
+
+/** Two guests, by name, who must sit at the same table or must not. */
+public class SeatingConstraint {
+    public enum Kind { TOGETHER, APART }
+
+    private final Kind kind;
+    private final String first;
+    private final String second;
+    private SeatingConstraint(Kind kind, String first, String second) {
+        if (first == null || second == null) {
+            throw new IllegalArgumentException("A seating constraint needs two guest names");
+        }
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+    }
+    public static SeatingConstraint together(String first, String second) {
+        return new SeatingConstraint(Kind.TOGETHER, first, second);
+    }
+    public static SeatingConstraint apart(String first, String second) {
+        return new SeatingConstraint(Kind.APART, first, second);
+    }
+    public Kind getKind() { return kind; }
+    public String getFirst() { return first; }
+    public String getSecond() { return second; }
+    @Override
+    public String toString() { return kind.name().toLowerCase() + "(" + first + ", " + second + ")"; }
+}
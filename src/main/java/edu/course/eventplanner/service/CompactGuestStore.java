@@ -0,0 +1,272 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Memory-lean guest storage for very large guest lists. Instead of one
+ * {@link Guest} object, one name {@code String} and two list/map nodes per
+ * guest, names are packed as UTF-8 into a single byte arena and group tags
+ * are dictionary-encoded into an {@code int} column. {@code Guest} objects
+ * are only created when a caller reads one.
+ *
+ * <p>Slots are appended in insertion order; removal leaves a tombstone that
+ * is squeezed out once tombstones make up half of the slots. Names are
+ * unique: adding a name that is already stored replaces the earlier guest.
+ */
+public class CompactGuestStore implements Iterable<Guest> {
+    private static final int REMOVED = -1;
+    private static final int EMPTY = 0;
+
+    // Dictionary for group tags: tagId -> tag and back.
+    private final List<String> tags = new ArrayList<>();
+    private final Map<String, Integer> tagIds = new HashMap<>();
+
+    private byte[] nameArena;
+    private int arenaSize;
+    // nameStart[slot] .. nameStart[slot + 1] is the slot's name in the arena.
+    private int[] nameStart;
+    private int[] groupIds;
+    private int slotCount;
+    private int liveCount;
+
+    // Linear-probing table of slot + 1 (0 = empty), hashed on the name bytes.
+    private int[] table;
+    private int tableMask;
+
+    public CompactGuestStore() { this(16); }
+
+    public CompactGuestStore(int expectedGuests) {
+        int capacity = Math.max(16, expectedGuests);
+        nameArena = new byte[capacity * 12];
+        nameStart = new int[capacity + 1];
+        groupIds = new int[capacity];
+        int tableSize = Integer.highestOneBit(Math.max(32, capacity * 2 - 1)) << 1;
+        table = new int[tableSize];
+        tableMask = tableSize - 1;
+    }
+
+    public void addGuest(Guest guest) {
+        if (guest == null || guest.getName() == null) {
+            return;
+        }
+        byte[] name = guest.getName().getBytes(StandardCharsets.UTF_8);
+        int index = probe(name);
+        if (table[index] != EMPTY) {
+            groupIds[table[index] - 1] = REMOVED;
+            liveCount--;
+            if (slotCount > 64 && liveCount * 2 < slotCount) {
+                // The replaced slot is dropped from the table too, so probe again for the empty index.
+                compact();
+                index = probe(name);
+            }
+        }
+        if (slotCount == groupIds.length) {
+            growSlots();
+        }
+        if (arenaSize + name.length > nameArena.length) {
+            nameArena = Arrays.copyOf(nameArena, Math.max(nameArena.length * 2, arenaSize + name.length));
+        }
+        int slot = slotCount++;
+        System.arraycopy(name, 0, nameArena, arenaSize, name.length);
+        arenaSize += name.length;
+        nameStart[slot + 1] = arenaSize;
+        groupIds[slot] = tagId(guest.getGroupTag());
+        liveCount++;
+
+        if (table[index] == EMPTY && (liveCount + 1) * 2 > table.length) {
+            growTable();
+            index = probe(name);
+        }
+        table[index] = slot + 1;
+    }
+
+    public boolean removeGuest(String guestName) {
+        if (guestName == null) {
+            return false;
+        }
+        int index = probe(guestName.getBytes(StandardCharsets.UTF_8));
+        if (table[index] == EMPTY) {
+            return false;
+        }
+        groupIds[table[index] - 1] = REMOVED;
+        deleteFromTable(index);
+        liveCount--;
+        if (slotCount > 64 && liveCount * 2 < slotCount) {
+            compact();
+        }
+        return true;
+    }
+
+    public Guest findGuest(String guestName) {
+        if (guestName == null) {
+            return null;
+        }
+        int index = probe(guestName.getBytes(StandardCharsets.UTF_8));
+        return table[index] == EMPTY ? null : new Guest(guestName, tags.get(groupIds[table[index] - 1]));
+    }
+
+    public int getGuestCount() { return liveCount; }
+
+    public Set<String> groupTags() {
+        Set<String> used = new LinkedHashSet<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (groupIds[slot] != REMOVED) {
+                used.add(tags.get(groupIds[slot]));
+            }
+        }
+        return used;
+    }
+
+    /** Iterates guests in insertion order, creating each {@code Guest} view on demand. */
+    @Override
+    public Iterator<Guest> iterator() {
+        return new Iterator<>() {
+            private int slot = nextLive(0);
+
+            @Override
+            public boolean hasNext() { return slot < slotCount; }
+
+            @Override
+            public Guest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Guest guest = guestAt(slot);
+                slot = nextLive(slot + 1);
+                return guest;
+            }
+        };
+    }
+
+    /** Bytes held by the backing arrays, for comparing against object-per-guest storage. */
+    public long footprintBytes() {
+        long arrays = (long) nameArena.length + 4L * nameStart.length + 4L * groupIds.length + 4L * table.length;
+        long dictionary = 0;
+        for (String tag : tags) {
+            // Rough String plus map entry cost; there are only a handful of tags.
+            dictionary += tag == null ? 0 : 80 + tag.length();
+        }
+        return arrays + dictionary;
+    }
+
+    /** Shrinks the backing arrays to what the live guests need. */
+    public void trimToSize() {
+        compact();
+        nameArena = Arrays.copyOf(nameArena, Math.max(16, arenaSize));
+        nameStart = Arrays.copyOf(nameStart, Math.max(16, slotCount) + 1);
+        groupIds = Arrays.copyOf(groupIds, Math.max(16, slotCount));
+    }
+
+    private Guest guestAt(int slot) {
+        String name = new String(nameArena, nameStart[slot], nameStart[slot + 1] - nameStart[slot],
+                StandardCharsets.UTF_8);
+        return new Guest(name, tags.get(groupIds[slot]));
+    }
+
+    private int nextLive(int slot) {
+        while (slot < slotCount && groupIds[slot] == REMOVED) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private int tagId(String tag) {
+        Integer id = tagIds.get(tag);
+        if (id == null) {
+            id = tags.size();
+            tags.add(tag);
+            tagIds.put(tag, id);
+        }
+        return id;
+    }
+
+    // Returns the table index holding this name, or the empty index where it belongs.
+    private int probe(byte[] name) {
+        int index = hash(name, 0, name.length) & tableMask;
+        while (table[index] != EMPTY) {
+            int slot = table[index] - 1;
+            if (Arrays.equals(nameArena, nameStart[slot], nameStart[slot + 1], name, 0, name.length)) {
+                return index;
+            }
+            index = (index + 1) & tableMask;
+        }
+        return index;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones in the table.
+    private void deleteFromTable(int index) {
+        int gap = index;
+        int next = (gap + 1) & tableMask;
+        while (table[next] != EMPTY) {
+            int slot = table[next] - 1;
+            int home = hash(nameArena, nameStart[slot], nameStart[slot + 1]) & tableMask;
+            if (((next - home) & tableMask) >= ((next - gap) & tableMask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 1) & tableMask;
+        }
+        table[gap] = EMPTY;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 0x9747b28c;
+        for (int i = from; i < to; i++) {
+            h = (h ^ bytes[i]) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private void growSlots() {
+        int capacity = groupIds.length * 2;
+        groupIds = Arrays.copyOf(groupIds, capacity);
+        nameStart = Arrays.copyOf(nameStart, capacity + 1);
+    }
+
+    private void growTable() {
+        table = new int[table.length * 2];
+        tableMask = table.length - 1;
+        reindex();
+    }
+
+    private void reindex() {
+        Arrays.fill(table, EMPTY);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (groupIds[slot] == REMOVED) {
+                continue;
+            }
+            int index = hash(nameArena, nameStart[slot], nameStart[slot + 1]) & tableMask;
+            while (table[index] != EMPTY) {
+                index = (index + 1) & tableMask;
+            }
+            table[index] = slot + 1;
+        }
+    }
+
+    // Slides live slots and their name bytes down over tombstones, keeping order.
+    private void compact() {
+        if (liveCount == slotCount) {
+            return;
+        }
+        int target = 0;
+        int arenaTarget = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (groupIds[slot] == REMOVED) {
+                continue;
+            }
+            int start = nameStart[slot];
+            int length = nameStart[slot + 1] - start;
+            System.arraycopy(nameArena, start, nameArena, arenaTarget, length);
+            groupIds[target] = groupIds[slot];
+            nameStart[target] = arenaTarget;
+            arenaTarget += length;
+            nameStart[target + 1] = arenaTarget;
+            target++;
+        }
+        slotCount = target;
+        arenaSize = arenaTarget;
+        reindex();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counterpart of {@link GuestListManager} with the same public API.
+ * Each name is updated under its own hash bin lock, so writers to different
+ * names do not contend; lookups and the count never take a lock.
+ */
+public class ConcurrentGuestListManager {
+    private static final class Entry {
+        final Guest guest;
+        final long seq;
+        Entry(Guest guest, long seq) {
+            this.guest = guest;
+            this.seq = seq;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> guestByName = new ConcurrentHashMap<>();
+    // Insertion order is the sequence number handed out when a guest is added.
+    private final ConcurrentSkipListMap<Long, Guest> guestsInOrder = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder count = new LongAdder();
+
+    public void addGuest(Guest guest) {
+        if (guest == null || guest.getName() == null) {
+            return;
+        }
+        guestByName.compute(guest.getName(), (name, previous) -> {
+            long seq = sequence.incrementAndGet();
+            guestsInOrder.put(seq, guest);
+            count.increment();
+            return new Entry(guest, seq);
+        });
+    }
+
+    public boolean removeGuest(String guestName) {
+        if (guestName == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        guestByName.computeIfPresent(guestName, (name, entry) -> {
+            guestsInOrder.remove(entry.seq);
+            count.decrement();
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    public Guest findGuest(String guestName) {
+        if (guestName == null) {
+            return null;
+        }
+        Entry entry = guestByName.get(guestName);
+        return entry == null ? null : entry.guest;
+    }
+
+    public int getGuestCount() { return (int) count.sum(); }
+
+    // Weakly consistent copy in insertion order; safe to iterate while writers run.
+    public List<Guest> getAllGuests() {
+        return Collections.unmodifiableList(new ArrayList<>(guestsInOrder.values()));
+    }
+}
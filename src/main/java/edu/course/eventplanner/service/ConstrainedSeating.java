@@ -0,0 +1,26 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.SeatingConstraint;
+import java.util.List;
+
+/**
+ * Result of {@link SeatingPlanner#planSeating(List, java.util.Collection)}:
+ * the plan, and the constraints it breaks because they could not all be
+ * met at once.
+ */
+public final class ConstrainedSeating {
+    private final SeatingPlan plan;
+    private final List<SeatingConstraint> violations;
+
+    ConstrainedSeating(SeatingPlan plan, List<SeatingConstraint> violations) {
+        this.plan = plan;
+        this.violations = List.copyOf(violations);
+    }
+
+    public SeatingPlan getPlan() { return plan; }
+
+    /** Broken constraints in the order they were given; empty when every constraint holds. */
+    public List<SeatingConstraint> getViolations() { return violations; }
+
+    public boolean isSatisfied() { return violations.isEmpty(); }
+}
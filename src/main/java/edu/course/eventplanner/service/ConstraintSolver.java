@@ -0,0 +1,420 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.SeatingConstraint;
+import java.util.*;
+
+/**
+ * Seats guests under {@link SeatingConstraint}s, used by
+ * {@link SeatingPlanner#planSeating(List, Collection)}.
+ *
+ * <p>Guests joined by "together" rules are merged into units of at most a
+ * table, walking the rules breadth first so that a unit too big for one
+ * table is cut into connected pieces. "Apart" rules form a conflict graph
+ * kept per guest in CSR arrays; the tables a unit must avoid are gathered
+ * into a reusable bitset in O(degree) and cleared the same way. Units are
+ * then colored greedily with tables as colors: group by group, largest and
+ * most constrained unit first, each unit goes to the table its group last
+ * used or else the tightest conflict-free table with room. A unit with no
+ * such table takes the table where it conflicts least, splitting it only
+ * when no table has room for all of it. A repair pass then moves a
+ * conflicting unit or its neighbor to a conflict-free table, or swaps it
+ * with a unit there, as long as that removes conflicts.
+ */
+final class ConstraintSolver {
+    // Every repair move removes a conflict, so this only bounds pathological inputs.
+    private static final int MAX_REPAIR_PASSES = 16;
+
+    private final int tables;
+    private final int seatsPerTable;
+    private final int[] groupOf;
+    // Constraints whose guests are both in the list, as guest indices.
+    private final SeatingConstraint[] rules;
+    private final int[] ruleFirst;
+    private final int[] ruleSecond;
+    // Neighbors of guest g are to[start[g] .. start[g + 1]), for each kind of rule.
+    private final int[] togetherStart;
+    private final int[] togetherTo;
+    private final int[] apartStart;
+    private final int[] apartTo;
+
+    // Units: guests that sit together. Members form a list through nextMember.
+    private final int[] unitOf;
+    private final int[] nextMember;
+    private final int[] unitHead;
+    private final int[] unitSize;
+    private final int[] unitGroup;
+    private final int[] unitTable;
+    private int unitCount;
+    // Units at each table, as doubly linked lists.
+    private final int[] tableHead;
+    private final int[] unitNext;
+    private final int[] unitPrev;
+    private final TableLevels levels;
+    private final BitSet forbidden;
+    // Guests of each group not yet seated by the greedy pass.
+    private int[] groupLeft;
+
+    ConstraintSolver(int tables, int seatsPerTable, List<Guest> guests, int[] groupOf,
+            Collection<SeatingConstraint> constraints) {
+        this.tables = tables;
+        this.seatsPerTable = seatsPerTable;
+        this.groupOf = groupOf;
+        int n = groupOf.length;
+        Map<String, Integer> indexOf = HashMap.newHashMap(n);
+        int i = 0;
+        for (Guest guest : guests) {
+            if (guest != null) {
+                indexOf.putIfAbsent(guest.getName(), i);
+            }
+            i++;
+        }
+        rules = new SeatingConstraint[constraints.size()];
+        ruleFirst = new int[rules.length];
+        ruleSecond = new int[rules.length];
+        int[] togetherDegree = new int[n + 1];
+        int[] apartDegree = new int[n + 1];
+        int count = 0;
+        for (SeatingConstraint rule : constraints) {
+            Integer first = indexOf.get(rule.getFirst());
+            Integer second = indexOf.get(rule.getSecond());
+            if (first == null || second == null) {
+                continue;
+            }
+            rules[count] = rule;
+            ruleFirst[count] = first;
+            ruleSecond[count++] = second;
+            int[] degree = rule.getKind() == SeatingConstraint.Kind.TOGETHER ? togetherDegree : apartDegree;
+            degree[first + 1]++;
+            degree[second + 1]++;
+        }
+        togetherStart = prefixSums(togetherDegree);
+        apartStart = prefixSums(apartDegree);
+        togetherTo = new int[togetherStart[n]];
+        apartTo = new int[apartStart[n]];
+        int[] togetherFill = Arrays.copyOf(togetherStart, n);
+        int[] apartFill = Arrays.copyOf(apartStart, n);
+        for (int r = 0; r < count; r++) {
+            boolean together = rules[r].getKind() == SeatingConstraint.Kind.TOGETHER;
+            int[] to = together ? togetherTo : apartTo;
+            int[] fill = together ? togetherFill : apartFill;
+            to[fill[ruleFirst[r]]++] = ruleSecond[r];
+            to[fill[ruleSecond[r]]++] = ruleFirst[r];
+        }
+
+        unitOf = new int[n];
+        nextMember = new int[n];
+        unitHead = new int[n];
+        unitSize = new int[n];
+        unitGroup = new int[n];
+        unitTable = new int[n];
+        unitNext = new int[n];
+        unitPrev = new int[n];
+        tableHead = new int[tables];
+        Arrays.fill(tableHead, -1);
+        levels = new TableLevels(tables, seatsPerTable);
+        forbidden = new BitSet(tables);
+    }
+
+    private static int[] prefixSums(int[] counts) {
+        for (int k = 1; k < counts.length; k++) {
+            counts[k] += counts[k - 1];
+        }
+        return counts;
+    }
+
+    /** Returns the 0-based table of each guest, or -1 for null guests. */
+    int[] solve(int groupCount) {
+        buildUnits();
+        List<Integer> deferred = new ArrayList<>();
+        int[] lastTable = new int[groupCount];
+        Arrays.fill(lastTable, -1);
+        groupLeft = new int[groupCount];
+        for (int g : groupOf) {
+            if (g >= 0) {
+                groupLeft[g]++;
+            }
+        }
+        for (int unit : placementOrder(groupCount)) {
+            if (!placeFree(unit, lastTable)) {
+                deferred.add(unit);
+            }
+        }
+        for (int unit : deferred) {
+            placeAnyway(unit, lastTable);
+        }
+        repair();
+
+        int[] tableOf = new int[groupOf.length];
+        for (int guest = 0; guest < tableOf.length; guest++) {
+            tableOf[guest] = groupOf[guest] < 0 ? -1 : unitTable[unitOf[guest]];
+        }
+        return tableOf;
+    }
+
+    /** The constraints a plan breaks, in the order they were given. */
+    List<SeatingConstraint> violations(int[] tableOf) {
+        List<SeatingConstraint> violations = new ArrayList<>();
+        for (int r = 0; r < rules.length && rules[r] != null; r++) {
+            boolean sameTable = tableOf[ruleFirst[r]] == tableOf[ruleSecond[r]];
+            if (sameTable != (rules[r].getKind() == SeatingConstraint.Kind.TOGETHER)) {
+                violations.add(rules[r]);
+            }
+        }
+        return violations;
+    }
+
+    // Breadth first over "together" rules, starting a new unit whenever one fills a table.
+    private void buildUnits() {
+        int n = groupOf.length;
+        Arrays.fill(unitOf, -1);
+        int[] queue = new int[n];
+        for (int start = 0; start < n; start++) {
+            if (groupOf[start] < 0 || unitOf[start] != -1) {
+                continue;
+            }
+            int unit = newUnit(groupOf[start]);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            // -2 marks a guest already in the queue.
+            unitOf[start] = -2;
+            while (head < tail) {
+                int guest = queue[head++];
+                if (unitSize[unit] == seatsPerTable) {
+                    unit = newUnit(groupOf[start]);
+                }
+                join(guest, unit);
+                for (int k = togetherStart[guest]; k < togetherStart[guest + 1]; k++) {
+                    int mate = togetherTo[k];
+                    if (unitOf[mate] == -1) {
+                        unitOf[mate] = -2;
+                        queue[tail++] = mate;
+                    }
+                }
+            }
+        }
+    }
+
+    private int newUnit(int group) {
+        int unit = unitCount++;
+        unitHead[unit] = -1;
+        unitSize[unit] = 0;
+        unitGroup[unit] = group;
+        unitTable[unit] = -1;
+        return unit;
+    }
+
+    private void join(int guest, int unit) {
+        unitOf[guest] = unit;
+        nextMember[guest] = unitHead[unit];
+        unitHead[unit] = guest;
+        unitSize[unit]++;
+    }
+
+    // Largest groups first so they keep their tables; within a group, big and constrained units first.
+    private Integer[] placementOrder(int groupCount) {
+        int[] groupWeight = new int[groupCount];
+        int[] degree = new int[unitCount];
+        for (int guest = 0; guest < groupOf.length; guest++) {
+            if (groupOf[guest] >= 0) {
+                groupWeight[unitGroup[unitOf[guest]]]++;
+                degree[unitOf[guest]] += apartStart[guest + 1] - apartStart[guest];
+            }
+        }
+        Integer[] order = new Integer[unitCount];
+        for (int unit = 0; unit < unitCount; unit++) {
+            order[unit] = unit;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(u -> -groupWeight[unitGroup[u]])
+                .thenComparingInt(u -> unitGroup[u])
+                .thenComparingInt(u -> -unitSize[u])
+                .thenComparingInt(u -> -degree[u]));
+        return order;
+    }
+
+    // Seats a unit without conflicts, preferring its group's last table; false if no table allows it.
+    private boolean placeFree(int unit, int[] lastTable) {
+        int group = unitGroup[unit];
+        markForbidden(unit, true);
+        int table = lastTable[group];
+        if (table < 0 || forbidden.get(table) || levels.free(table) < unitSize[unit]) {
+            // Prefer a table with room for the rest of the group too, so its later units can follow.
+            int wanted = Math.min(groupLeft[group], seatsPerTable);
+            table = wanted > unitSize[unit] ? levels.bestFit(wanted, forbidden) : -1;
+            if (table < 0) {
+                table = levels.bestFit(unitSize[unit], forbidden);
+            }
+        }
+        markForbidden(unit, false);
+        if (table < 0) {
+            return false;
+        }
+        move(unit, table);
+        lastTable[group] = table;
+        groupLeft[group] -= unitSize[unit];
+        return true;
+    }
+
+    // Seats a unit at the table with room where it has the fewest conflicts, splitting it if none has room.
+    private void placeAnyway(int unit, int[] lastTable) {
+        int best = -1;
+        int bestConflicts = Integer.MAX_VALUE;
+        for (int table = 0; table < tables && bestConflicts > 0; table++) {
+            if (levels.free(table) >= unitSize[unit]) {
+                int conflicts = conflicts(unit, table, -1);
+                if (conflicts < bestConflicts) {
+                    best = table;
+                    bestConflicts = conflicts;
+                }
+            }
+        }
+        if (best >= 0) {
+            move(unit, best);
+            groupLeft[unitGroup[unit]] -= unitSize[unit];
+            return;
+        }
+        // The free seats are scattered: seat the members one by one, breaking the unit's "together" rules.
+        int first = unitCount;
+        for (int guest = nextMember[unitHead[unit]]; guest >= 0; ) {
+            int next = nextMember[guest];
+            join(guest, newUnit(unitGroup[unit]));
+            guest = next;
+        }
+        nextMember[unitHead[unit]] = -1;
+        unitSize[unit] = 1;
+        int last = unitCount;
+        for (int single = unit; single < last; single = single == unit ? first : single + 1) {
+            if (!placeFree(single, lastTable)) {
+                placeAnyway(single, lastTable);
+            }
+        }
+    }
+
+    private void repair() {
+        for (int pass = 0; pass < MAX_REPAIR_PASSES; pass++) {
+            boolean improved = false;
+            for (int unit = 0; unit < unitCount; unit++) {
+                if (conflicts(unit, unitTable[unit], -1) == 0) {
+                    continue;
+                }
+                improved |= relocate(unit) || relocateNeighbor(unit) || swap(unit);
+            }
+            if (!improved) {
+                return;
+            }
+        }
+    }
+
+    // Moves a unit to a conflict-free table with room.
+    private boolean relocate(int unit) {
+        markForbidden(unit, true);
+        int table = levels.bestFit(unitSize[unit], forbidden);
+        markForbidden(unit, false);
+        if (table < 0) {
+            return false;
+        }
+        move(unit, table);
+        return true;
+    }
+
+    private boolean relocateNeighbor(int unit) {
+        int table = unitTable[unit];
+        for (int guest = unitHead[unit]; guest >= 0; guest = nextMember[guest]) {
+            for (int k = apartStart[guest]; k < apartStart[guest + 1]; k++) {
+                int other = unitOf[apartTo[k]];
+                if (other != unit && unitTable[other] == table && relocate(other)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Trades places with a unit at a table that has none of this unit's neighbors.
+    private boolean swap(int unit) {
+        int from = unitTable[unit];
+        markForbidden(unit, true);
+        try {
+            for (int table = 0; table < tables; table++) {
+                if (table == from || forbidden.get(table)) {
+                    continue;
+                }
+                for (int other = tableHead[table]; other >= 0; other = unitNext[other]) {
+                    if (levels.free(table) + unitSize[other] >= unitSize[unit]
+                            && levels.free(from) + unitSize[unit] >= unitSize[other]
+                            && conflicts(other, from, unit) == 0) {
+                        // Unseat unit first so that neither table ever holds both.
+                        detach(unit);
+                        move(other, from);
+                        attach(unit, table);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            markForbidden(unit, false);
+        }
+    }
+
+    // Number of "apart" rules a unit would break at a table, not counting guests of ignored.
+    private int conflicts(int unit, int table, int ignored) {
+        int conflicts = 0;
+        for (int guest = unitHead[unit]; guest >= 0; guest = nextMember[guest]) {
+            for (int k = apartStart[guest]; k < apartStart[guest + 1]; k++) {
+                int other = unitOf[apartTo[k]];
+                if (other != unit && other != ignored && unitTable[other] == table) {
+                    conflicts++;
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    // Sets or clears the tables of a unit's seated "apart" neighbors.
+    private void markForbidden(int unit, boolean value) {
+        for (int guest = unitHead[unit]; guest >= 0; guest = nextMember[guest]) {
+            for (int k = apartStart[guest]; k < apartStart[guest + 1]; k++) {
+                int other = unitOf[apartTo[k]];
+                if (other != unit && unitTable[other] >= 0) {
+                    forbidden.set(unitTable[other], value);
+                }
+            }
+        }
+    }
+
+    private void move(int unit, int table) {
+        detach(unit);
+        attach(unit, table);
+    }
+
+    // Takes a unit off its table, if it has one.
+    private void detach(int unit) {
+        int from = unitTable[unit];
+        if (from < 0) {
+            return;
+        }
+        levels.occupy(from, -unitSize[unit]);
+        if (unitPrev[unit] >= 0) {
+            unitNext[unitPrev[unit]] = unitNext[unit];
+        } else {
+            tableHead[from] = unitNext[unit];
+        }
+        if (unitNext[unit] >= 0) {
+            unitPrev[unitNext[unit]] = unitPrev[unit];
+        }
+        unitTable[unit] = -1;
+    }
+
+    private void attach(int unit, int table) {
+        levels.occupy(table, unitSize[unit]);
+        unitTable[unit] = table;
+        unitPrev[unit] = -1;
+        unitNext[unit] = tableHead[table];
+        if (tableHead[table] >= 0) {
+            unitPrev[tableHead[table]] = unit;
+        }
+        tableHead[table] = unit;
+    }
+}
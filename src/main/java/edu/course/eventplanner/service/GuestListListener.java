@@ -0,0 +1,9 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+
+/** Notified by {@link GuestListManager} after each guest is added or removed. */
+public interface GuestListListener {
+    void guestAdded(Guest guest);
+    void guestRemoved(Guest guest);
+}
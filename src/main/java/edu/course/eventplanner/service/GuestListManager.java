@@ -1,39 +1,386 @@
 package edu.course.eventplanner.service;
 
+import edu.course.eventplanner.metrics.Operation;
+import edu.course.eventplanner.metrics.ServiceMetrics;
 import edu.course.eventplanner.model.Guest;
 import java.util.*;
 
 public class GuestListManager {
-    private final LinkedList<Guest> guests = new LinkedList<>();
-    private final Map<String, Guest> guestByName = new HashMap<>();
+    // Doubly linked list threaded through the nodes, so a node found by name
+    // can be unlinked in O(1) while iteration keeps insertion order.
+    private static final class Node {
+        final Guest guest;
+        Node prev;
+        Node next;
+        // Position in the slot array that snapshots share.
+        int slot;
+        // Second chain linking the guests that share this node's group tag.
+        Node groupPrev;
+        Node groupNext;
+        Node(Guest guest) { this.guest = guest; }
+    }
+
+    private static final class GroupBucket {
+        Node head;
+        Node tail;
+        int count;
+    }
+
+    private Map<String, Node> guestByName = new HashMap<>();
+    private final Map<String, GroupBucket> guestsByGroup = new HashMap<>();
+    private Node head;
+    private Node tail;
+    private int size;
+    // Bumped on every mutation; doubles as the fail-fast check for iterators.
+    private long version;
+    private int reservedCapacity;
+    // Built on the first prefix or fuzzy query, then kept in step with every add and remove.
+    private NameIndex nameIndex;
+    private final List<Guest> view = new GuestView();
+
+    // Insertion-ordered copy-on-write array behind snapshot(). Removed guests
+    // leave a null; slots below sharedEnd are visible to a snapshot and are
+    // copied before being overwritten, so taking a snapshot is O(1).
+    private Guest[] slots = new Guest[16];
+    private int slotEnd;
+    private int sharedEnd;
+    private int emptySlots;
+    private GuestListSnapshot lastSnapshot;
+    private final List<GuestListListener> listeners = new ArrayList<>();
 
     public void addGuest(Guest guest) {
-        if (guest == null || guest.getName() == null) {
+        long start = ServiceMetrics.start();
+        if (guest != null && guest.getName() != null) {
+            Node node = new Node(guest);
+            linkLast(node);
+            linkGroup(node);
+            guestByName.put(guest.getName(), node);
+            if (nameIndex != null) {
+                nameIndex.add(guest.getName());
+            }
+            for (GuestListListener listener : listeners) {
+                listener.guestAdded(guest);
+            }
+        }
+        ServiceMetrics.stop(Operation.ADD_GUEST, start);
+    }
+
+    public int addAll(Collection<Guest> newGuests) {
+        ensureCapacity(size + newGuests.size());
+        int added = 0;
+        for (Guest guest : newGuests) {
+            if (guest == null || guest.getName() == null) {
+                continue;
+            }
+            Node node = new Node(guest);
+            linkLast(node);
+            linkGroup(node);
+            guestByName.put(guest.getName(), node);
+            if (nameIndex != null) {
+                nameIndex.add(guest.getName());
+            }
+            for (GuestListListener listener : listeners) {
+                listener.guestAdded(guest);
+            }
+            added++;
+        }
+        return added;
+    }
+
+    // Grows the name map once up front instead of rehashing repeatedly during a bulk load.
+    public void ensureCapacity(int expectedGuests) {
+        if (expectedGuests <= Math.max(reservedCapacity, guestByName.size())) {
             return;
         }
-        guests.add(guest);
-        guestByName.put(guest.getName(), guest);
+        Map<String, Node> resized = HashMap.newHashMap(expectedGuests);
+        resized.putAll(guestByName);
+        guestByName = resized;
+        reservedCapacity = expectedGuests;
     }
 
     public boolean removeGuest(String guestName) {
-        if (guestName == null) {
-            return false;
-        }
-        Guest guest = guestByName.remove(guestName);
-        if (guest != null) {
-            guests.remove(guest);
-            return true;
+        long start = ServiceMetrics.start();
+        Node node = guestName == null ? null : guestByName.remove(guestName);
+        if (node != null) {
+            unlink(node);
+            unlinkGroup(node);
+            if (nameIndex != null) {
+                nameIndex.remove(guestName);
+            }
+            for (GuestListListener listener : listeners) {
+                listener.guestRemoved(node.guest);
+            }
         }
-        return false;
+        ServiceMetrics.stop(Operation.REMOVE_GUEST, start);
+        return node != null;
     }
 
     public Guest findGuest(String guestName) {
+        long start = ServiceMetrics.start();
+        Node node = guestName == null ? null : guestByName.get(guestName);
+        ServiceMetrics.stop(Operation.FIND_GUEST, start);
+        return node == null ? null : node.guest;
+    }
+
+    public List<Guest> findByPrefix(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        return toGuests(nameIndex().findByPrefix(prefix, limit));
+    }
+
+    // Guests whose name is within maxDistance insertions, deletions or substitutions, closest first.
+    // At 1M guests a distance of 1 takes a fraction of a millisecond; 2 can take milliseconds.
+    public List<Guest> findSimilar(String guestName, int maxDistance) {
         if (guestName == null) {
-            return null;
+            return Collections.emptyList();
+        }
+        return toGuests(nameIndex().findSimilar(guestName, maxDistance));
+    }
+
+    public int getGuestCount() { return size; }
+    public List<Guest> getAllGuests() { return view; }
+
+    public long getVersion() { return version; }
+
+    public void addListener(GuestListListener listener) { listeners.add(listener); }
+    public void removeListener(GuestListListener listener) { listeners.remove(listener); }
+
+    /**
+     * Immutable view of the guest list as of now, in insertion order. Later
+     * adds and removes do not show up in it. Repeated calls without a mutation
+     * in between return the same snapshot.
+     */
+    public GuestListSnapshot snapshot() {
+        if (lastSnapshot == null || lastSnapshot.getVersion() != version) {
+            lastSnapshot = new GuestListSnapshot(slots, slotEnd, size, version);
+            sharedEnd = slotEnd;
+        }
+        return lastSnapshot;
+    }
+
+    public List<Guest> findByGroup(String groupTag) {
+        GroupBucket bucket = guestsByGroup.get(groupTag);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        List<Guest> members = new ArrayList<>(bucket.count);
+        for (Node node = bucket.head; node != null; node = node.groupNext) {
+            members.add(node.guest);
+        }
+        return members;
+    }
+
+    public int countByGroup(String groupTag) {
+        GroupBucket bucket = guestsByGroup.get(groupTag);
+        return bucket == null ? 0 : bucket.count;
+    }
+
+    public Set<String> groupTags() { return Collections.unmodifiableSet(guestsByGroup.keySet()); }
+
+    private NameIndex nameIndex() {
+        if (nameIndex == null) {
+            nameIndex = new NameIndex();
+            for (String name : guestByName.keySet()) {
+                nameIndex.add(name);
+            }
+        }
+        return nameIndex;
+    }
+
+    private List<Guest> toGuests(List<String> names) {
+        List<Guest> found = new ArrayList<>(names.size());
+        for (String name : names) {
+            found.add(guestByName.get(name).guest);
+        }
+        return found;
+    }
+
+    private void linkLast(Node node) {
+        // Make room first: compaction walks the list and must not see this node yet.
+        if (slotEnd == slots.length) {
+            growSlots();
+        }
+        node.slot = slotEnd;
+        slots[slotEnd++] = node.guest;
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
         }
-        return guestByName.get(guestName);
+        tail = node;
+        size++;
+        version++;
     }
 
-    public int getGuestCount() { return guests.size(); }
-    public List<Guest> getAllGuests() { return guests; }
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+        version++;
+        if (node.slot < sharedEnd) {
+            slots = slots.clone();
+            sharedEnd = 0;
+        }
+        slots[node.slot] = null;
+        emptySlots++;
+        if (emptySlots > 32 && emptySlots > size) {
+            compactSlots();
+        }
+    }
+
+    private void growSlots() {
+        if (emptySlots > slotEnd / 4) {
+            compactSlots();
+        }
+        if (slotEnd == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+            sharedEnd = 0;
+        }
+    }
+
+    // Rewrites the live guests into a fresh array in list order, so snapshots keep the old one.
+    private void compactSlots() {
+        Guest[] compacted = new Guest[Math.max(16, size * 2)];
+        int i = 0;
+        for (Node node = head; node != null; node = node.next) {
+            node.slot = i;
+            compacted[i++] = node.guest;
+        }
+        slots = compacted;
+        slotEnd = i;
+        sharedEnd = 0;
+        emptySlots = 0;
+    }
+
+    private void linkGroup(Node node) {
+        GroupBucket bucket = guestsByGroup.computeIfAbsent(node.guest.getGroupTag(), tag -> new GroupBucket());
+        node.groupPrev = bucket.tail;
+        if (bucket.tail == null) {
+            bucket.head = node;
+        } else {
+            bucket.tail.groupNext = node;
+        }
+        bucket.tail = node;
+        bucket.count++;
+    }
+
+    private void unlinkGroup(Node node) {
+        GroupBucket bucket = guestsByGroup.get(node.guest.getGroupTag());
+        if (node.groupPrev == null) {
+            bucket.head = node.groupNext;
+        } else {
+            node.groupPrev.groupNext = node.groupNext;
+        }
+        if (node.groupNext == null) {
+            bucket.tail = node.groupPrev;
+        } else {
+            node.groupNext.groupPrev = node.groupPrev;
+        }
+        node.groupPrev = null;
+        node.groupNext = null;
+        if (--bucket.count == 0) {
+            guestsByGroup.remove(node.guest.getGroupTag());
+        }
+    }
+
+    // Read-only live view in insertion order; iteration is O(1) per step.
+    private final class GuestView extends AbstractSequentialList<Guest> {
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public ListIterator<Guest> listIterator(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return new GuestIterator(index);
+        }
+    }
+
+    private final class GuestIterator implements ListIterator<Guest> {
+        private Node next;
+        private Node lastReturned;
+        private int nextIndex;
+        private final long expectedVersion = version;
+
+        GuestIterator(int index) {
+            if (index == size) {
+                next = null;
+            } else if (index < size / 2) {
+                next = head;
+                for (int i = 0; i < index; i++) {
+                    next = next.next;
+                }
+            } else {
+                next = tail;
+                for (int i = size - 1; i > index; i--) {
+                    next = next.prev;
+                }
+            }
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() { return nextIndex < size; }
+
+        @Override
+        public Guest next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.guest;
+        }
+
+        @Override
+        public boolean hasPrevious() { return nextIndex > 0; }
+
+        @Override
+        public Guest previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.guest;
+        }
+
+        @Override
+        public int nextIndex() { return nextIndex; }
+
+        @Override
+        public int previousIndex() { return nextIndex - 1; }
+
+        @Override
+        public void remove() { throw new UnsupportedOperationException("Use removeGuest"); }
+
+        @Override
+        public void set(Guest guest) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public void add(Guest guest) { throw new UnsupportedOperationException("Use addGuest"); }
+
+        private void checkForComodification() {
+            if (version != expectedVersion) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
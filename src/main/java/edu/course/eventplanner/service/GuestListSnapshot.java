@@ -0,0 +1,79 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import java.util.*;
+
+/**
+ * Read-only, point-in-time list of guests returned by
+ * {@link GuestListManager#snapshot()}. It shares the manager's slot array
+ * instead of copying it, so it is cheap to take and safe to iterate while the
+ * manager keeps changing. The version identifies the guest list state and can
+ * be used as a cache key.
+ */
+public final class GuestListSnapshot extends AbstractList<Guest> {
+    private final Guest[] slots;
+    private final int end;
+    private final int size;
+    private final long version;
+    // Gap-free copy built on the first positional get when the slots contain removed entries.
+    private volatile Guest[] dense;
+
+    GuestListSnapshot(Guest[] slots, int end, int size, long version) {
+        this.slots = slots;
+        this.end = end;
+        this.size = size;
+        this.version = version;
+        if (size == end) {
+            dense = slots;
+        }
+    }
+
+    public long getVersion() { return version; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public Guest get(int index) {
+        Objects.checkIndex(index, size);
+        Guest[] guests = dense;
+        if (guests == null) {
+            guests = new Guest[size];
+            int i = 0;
+            for (int slot = 0; slot < end; slot++) {
+                if (slots[slot] != null) {
+                    guests[i++] = slots[slot];
+                }
+            }
+            dense = guests;
+        }
+        return guests[index];
+    }
+
+    @Override
+    public Iterator<Guest> iterator() {
+        return new Iterator<>() {
+            private int slot = advance(0);
+
+            @Override
+            public boolean hasNext() { return slot < end; }
+
+            @Override
+            public Guest next() {
+                if (slot >= end) {
+                    throw new NoSuchElementException();
+                }
+                Guest guest = slots[slot];
+                slot = advance(slot + 1);
+                return guest;
+            }
+        };
+    }
+
+    private int advance(int slot) {
+        while (slot < end && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+}
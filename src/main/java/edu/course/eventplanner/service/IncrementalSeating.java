@@ -0,0 +1,425 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import java.util.*;
+
+/**
+ * Seating plan that stays current as guests are added and removed, instead
+ * of re-running {@link SeatingPlanner#generateSeating} for every late RSVP
+ * or cancellation. Register it with
+ * {@link GuestListManager#addListener} to follow a guest list.
+ *
+ * <p>Each change is repaired locally and only touches the tables involved:
+ * <ul>
+ *   <li>A new guest joins a table where their group already sits. If those
+ *       tables are full, a guest who sits there alone from another group is
+ *       moved to a table where that guest's own group has a free seat.
+ *       Otherwise the new guest starts at the emptiest table, which leaves
+ *       the group room to grow.</li>
+ *   <li>A removal frees a seat. A split group at that table may use the
+ *       seat to pull in a member from its other table. The freed seat is
+ *       then offered to the waitlist, which holds guests who arrived while
+ *       the venue was full.</li>
+ * </ul>
+ *
+ * <p>Quality is measured with the same cost as the seating optimizer: the
+ * tables each group uses, plus one per split group. Anything above one per
+ * group is drift. The plan is regenerated from scratch only when drift has
+ * grown by more than {@code tolerance} times the number of groups (and at
+ * least 8) since the last full computation. Full computations spread free
+ * seats over all tables so groups can grow in place, and keep each table's
+ * number where most of its guests already sat, so a recompute moves as few
+ * guests as it can.
+ */
+public class IncrementalSeating implements GuestListListener {
+    public static final double DEFAULT_TOLERANCE = 0.05;
+    // Drift always allowed, so small plans do not recompute on every split.
+    private static final int MIN_SLACK = 8;
+
+    private final SeatingPlanner planner;
+    private final int tables;
+    private final int seatsPerTable;
+    private final double tolerance;
+    private Guest[][] seats;
+    private int[] filled;
+    private TableLevels levels;
+    private final Map<Guest, Integer> tableOf = new HashMap<>();
+    // Seated guests by name, for door staff lookups; kept in step with tableOf.
+    private final Map<String, Guest> seatedByName = new HashMap<>();
+    private final Map<String, GroupSeats> groups = new HashMap<>();
+    private final Deque<Guest> waitlist = new ArrayDeque<>();
+    private long cost;
+    private long recomputeAbove;
+    private int recomputeCount;
+    private long movedGuests;
+
+    public IncrementalSeating(Venue venue, Collection<Guest> guests) {
+        this(venue, guests, DEFAULT_TOLERANCE);
+    }
+
+    public IncrementalSeating(Venue venue, Collection<Guest> guests, double tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("Tolerance must not be negative");
+        }
+        this.planner = new SeatingPlanner(venue);
+        this.tables = venue.getTables();
+        this.seatsPerTable = Math.max(venue.getSeatsPerTable(), 0);
+        this.tolerance = tolerance;
+        List<Guest> initial = new ArrayList<>(guests.size());
+        for (Guest guest : guests) {
+            if (guest != null) {
+                initial.add(guest);
+            }
+        }
+        recompute(initial);
+        recomputeCount = 0;
+        movedGuests = 0;
+    }
+
+    @Override
+    public void guestAdded(Guest guest) {
+        if (guest == null || tableOf.containsKey(guest)) {
+            return;
+        }
+        if (!seat(guest)) {
+            waitlist.addLast(guest);
+        }
+        checkQuality();
+    }
+
+    @Override
+    public void guestRemoved(Guest guest) {
+        Integer table = tableOf.get(guest);
+        if (table == null) {
+            waitlist.remove(guest);
+            return;
+        }
+        unplace(guest, table);
+        consolidateInto(table);
+        while (!waitlist.isEmpty() && seat(waitlist.peekFirst())) {
+            waitlist.removeFirst();
+        }
+        checkQuality();
+    }
+
+    /** The guest's table number (from 1), or -1 when the guest is not seated. */
+    public int tableOf(Guest guest) {
+        Integer table = tableOf.get(guest);
+        return table == null ? -1 : table + 1;
+    }
+
+    /** Table number of the seated guest with this name, or -1. O(1). */
+    public int tableFor(String name) {
+        Guest guest = seatedByName.get(name);
+        return guest == null ? -1 : tableOf(guest);
+    }
+
+    /** Everyone else at the named guest's table, or an empty list if that guest is not seated. */
+    public List<Guest> tableMates(String name) {
+        Guest guest = seatedByName.get(name);
+        if (guest == null) {
+            return List.of();
+        }
+        int table = tableOf.get(guest);
+        List<Guest> mates = new ArrayList<>(filled[table] - 1);
+        for (int k = 0; k < filled[table]; k++) {
+            if (seats[table][k] != guest) {
+                mates.add(seats[table][k]);
+            }
+        }
+        return mates;
+    }
+
+    /** The plan in the same shape as {@link SeatingPlanner#generateSeating}. */
+    public Map<Integer, List<Guest>> toMap() {
+        Map<Integer, List<Guest>> seating = new LinkedHashMap<>();
+        for (int table = 0; table < tables; table++) {
+            if (filled[table] > 0) {
+                seating.put(table + 1, new ArrayList<>(Arrays.asList(seats[table]).subList(0, filled[table])));
+            }
+        }
+        return seating;
+    }
+
+    /** Guests who could not be seated because the venue was full, in arrival order. */
+    public List<Guest> getWaitlist() { return List.copyOf(waitlist); }
+
+    public int getSeatedCount() { return tableOf.size(); }
+
+    /** Tables used summed over groups, plus one for each group that sits at several tables. */
+    public long getCost() { return cost; }
+
+    public int getRecomputeCount() { return recomputeCount; }
+
+    /** Guests moved to another table by repairs or full recomputes after construction. */
+    public long getMovedGuests() { return movedGuests; }
+
+    private boolean seat(Guest guest) {
+        GroupSeats group = groups.get(guest.getGroupTag());
+        if (group != null) {
+            int best = -1;
+            for (int i = 0; i < group.used; i++) {
+                int table = group.tables[i];
+                if (levels.free(table) > 0 && (best < 0 || group.counts[i] > group.count(best))) {
+                    best = table;
+                }
+            }
+            if (best < 0) {
+                best = makeRoom(group);
+            }
+            if (best >= 0) {
+                place(guest, best);
+                return true;
+            }
+        }
+        int table = levels.emptiest();
+        if (table < 0) {
+            return false;
+        }
+        place(guest, table);
+        return true;
+    }
+
+    // Frees a seat at one of the group's full tables by moving a lone guest of another group to their own group.
+    private int makeRoom(GroupSeats group) {
+        for (int i = 0; i < group.used; i++) {
+            int table = group.tables[i];
+            for (int k = 0; k < filled[table]; k++) {
+                Guest other = seats[table][k];
+                GroupSeats otherGroup = groups.get(other.getGroupTag());
+                if (otherGroup == group || otherGroup.count(table) != 1) {
+                    continue;
+                }
+                for (int j = 0; j < otherGroup.used; j++) {
+                    int target = otherGroup.tables[j];
+                    if (target != table && levels.free(target) > 0) {
+                        move(other, table, target);
+                        return table;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Lets a split group at this table pull in its smallest other party if it fits the free seats.
+    private void consolidateInto(int table) {
+        int free = levels.free(table);
+        for (int k = 0; k < filled[table]; k++) {
+            GroupSeats group = groups.get(seats[table][k].getGroupTag());
+            int from = -1;
+            for (int i = 0; i < group.used; i++) {
+                if (group.tables[i] != table && group.counts[i] <= free
+                        && (from < 0 || group.counts[i] < group.count(from))) {
+                    from = group.tables[i];
+                }
+            }
+            if (from >= 0) {
+                String tag = seats[table][k].getGroupTag();
+                for (int j = filled[from] - 1; j >= 0; j--) {
+                    Guest mate = seats[from][j];
+                    if (Objects.equals(mate.getGroupTag(), tag)) {
+                        move(mate, from, table);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private void checkQuality() {
+        if (cost - groups.size() > recomputeAbove) {
+            List<Guest> guests = new ArrayList<>(tableOf.size() + waitlist.size());
+            for (int table = 0; table < tables; table++) {
+                guests.addAll(Arrays.asList(seats[table]).subList(0, filled[table]));
+            }
+            guests.addAll(waitlist);
+            recompute(guests);
+        }
+    }
+
+    private void recompute(List<Guest> guests) {
+        long capacity = (long) tables * seatsPerTable;
+        List<Guest> seated = guests.size() > capacity ? guests.subList(0, (int) capacity) : guests;
+        int[] groupOf = new int[seated.size()];
+        int[] assigned = planner.assignTables(groupOf, SeatingPlanner.groupGuests(seated, groupOf), true);
+        int[] before = new int[assigned.length];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = tableOf.getOrDefault(seated.get(i), -1);
+        }
+        int[] renumber = matchTables(assigned, before);
+
+        seats = new Guest[tables][seatsPerTable];
+        filled = new int[tables];
+        levels = new TableLevels(tables, seatsPerTable);
+        tableOf.clear();
+        seatedByName.clear();
+        groups.clear();
+        waitlist.clear();
+        cost = 0;
+        for (int i = 0; i < assigned.length; i++) {
+            int table = renumber[assigned[i]];
+            place(seated.get(i), table);
+            if (before[i] >= 0 && before[i] != table) {
+                movedGuests++;
+            }
+        }
+        waitlist.addAll(guests.subList(seated.size(), guests.size()));
+        recomputeAbove = cost - groups.size() + Math.max(MIN_SLACK, (long) (tolerance * groups.size()));
+        recomputeCount++;
+    }
+
+    /**
+     * Renumbers the tables of a fresh plan so that each new table keeps the
+     * old number most of its guests already sat at, as far as those numbers
+     * are not claimed by a table with more such guests. All tables are the
+     * same size, so this only changes who has to get up.
+     */
+    private int[] matchTables(int[] assigned, int[] before) {
+        int[] start = new int[tables + 1];
+        for (int table : assigned) {
+            start[table + 1]++;
+        }
+        for (int table = 0; table < tables; table++) {
+            start[table + 1] += start[table];
+        }
+        int[] order = new int[assigned.length];
+        int[] fill = Arrays.copyOf(start, tables);
+        for (int i = 0; i < assigned.length; i++) {
+            order[fill[assigned[i]]++] = i;
+        }
+
+        int[] votes = new int[tables];
+        int[] bestOld = new int[tables];
+        long[] candidates = new long[tables];
+        int candidateCount = 0;
+        for (int table = 0; table < tables; table++) {
+            int best = -1;
+            for (int k = start[table]; k < start[table + 1]; k++) {
+                int old = before[order[k]];
+                if (old >= 0 && (++votes[old] > (best < 0 ? 0 : votes[best]))) {
+                    best = old;
+                }
+            }
+            if (best >= 0) {
+                bestOld[table] = best;
+                // Most votes first; ties by table number.
+                candidates[candidateCount++] = (long) (assigned.length - votes[best]) << 32 | table;
+            }
+            for (int k = start[table]; k < start[table + 1]; k++) {
+                if (before[order[k]] >= 0) {
+                    votes[before[order[k]]] = 0;
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+
+        int[] renumber = new int[tables];
+        Arrays.fill(renumber, -1);
+        boolean[] taken = new boolean[tables];
+        for (int c = 0; c < candidateCount; c++) {
+            int table = (int) candidates[c];
+            if (!taken[bestOld[table]]) {
+                renumber[table] = bestOld[table];
+                taken[bestOld[table]] = true;
+            }
+        }
+        int unused = 0;
+        for (int table = 0; table < tables; table++) {
+            if (renumber[table] < 0) {
+                while (taken[unused]) {
+                    unused++;
+                }
+                renumber[table] = unused;
+                taken[unused] = true;
+            }
+        }
+        return renumber;
+    }
+
+    private void move(Guest guest, int from, int to) {
+        unplace(guest, from);
+        place(guest, to);
+        movedGuests++;
+    }
+
+    private void place(Guest guest, int table) {
+        seats[table][filled[table]++] = guest;
+        levels.occupy(table, 1);
+        tableOf.put(guest, table);
+        seatedByName.putIfAbsent(guest.getName(), guest);
+        GroupSeats group = groups.computeIfAbsent(guest.getGroupTag(), tag -> new GroupSeats());
+        cost -= group.cost();
+        group.add(table);
+        cost += group.cost();
+    }
+
+    private void unplace(Guest guest, int table) {
+        Guest[] row = seats[table];
+        int last = --filled[table];
+        for (int k = 0; k <= last; k++) {
+            if (row[k] == guest) {
+                row[k] = row[last];
+                row[last] = null;
+                break;
+            }
+        }
+        levels.occupy(table, -1);
+        tableOf.remove(guest);
+        seatedByName.remove(guest.getName(), guest);
+        GroupSeats group = groups.get(guest.getGroupTag());
+        cost -= group.cost();
+        group.remove(table);
+        cost += group.cost();
+        if (group.used == 0) {
+            groups.remove(guest.getGroupTag());
+        }
+    }
+
+    /** Tables a group sits at and how many of its guests sit at each; groups rarely span more than a few. */
+    private static final class GroupSeats {
+        int[] tables = new int[2];
+        int[] counts = new int[2];
+        int used;
+
+        int count(int table) {
+            for (int i = 0; i < used; i++) {
+                if (tables[i] == table) {
+                    return counts[i];
+                }
+            }
+            return 0;
+        }
+
+        long cost() { return used + (used > 1 ? 1 : 0); }
+
+        void add(int table) {
+            for (int i = 0; i < used; i++) {
+                if (tables[i] == table) {
+                    counts[i]++;
+                    return;
+                }
+            }
+            if (used == tables.length) {
+                tables = Arrays.copyOf(tables, used * 2);
+                counts = Arrays.copyOf(counts, used * 2);
+            }
+            tables[used] = table;
+            counts[used++] = 1;
+        }
+
+        void remove(int table) {
+            for (int i = 0; i < used; i++) {
+                if (tables[i] == table) {
+                    if (--counts[i] == 0) {
+                        used--;
+                        tables[i] = tables[used];
+                        counts[i] = counts[used];
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import java.util.*;
+
+/**
+ * Seating plan spanning several halls, made by
+ * {@link SeatingPlanner#planAcross}. A seat is addressed by (venue, table):
+ * venues by their index in the list given to the planner, starting at 0, and
+ * tables within a venue starting at 1 as in {@link SeatingPlan}. The plan is
+ * one {@link SeatingPlan} whose tables run through all the halls, so a table
+ * is still a range of positions:
+ *
+ * <pre>
+ * for (int p = plan.tableStart(venue, table); p &lt; plan.tableEnd(venue, table); p++) {
+ *     Guest guest = plan.guestAt(p);
+ * }
+ * </pre>
+ */
+public final class MultiVenuePlan {
+    private final List<Venue> venues;
+    private final SeatingPlan plan;
+    // Tables of venue v are firstTable[v] .. firstTable[v + 1] - 1 in the merged plan, 0-based.
+    private final int[] firstTable;
+    private final int[] venueOf;
+
+    MultiVenuePlan(List<Venue> venues, int[] firstTable, List<Guest> guests, int[] tableOf) {
+        this.venues = List.copyOf(venues);
+        this.firstTable = firstTable;
+        plan = new SeatingPlan(guests, tableOf, firstTable[venues.size()]);
+        venueOf = new int[tableOf.length];
+        int venue = 0;
+        for (int guest = 0; guest < tableOf.length; guest++) {
+            int table = tableOf[guest];
+            if (table < 0) {
+                venueOf[guest] = -1;
+                continue;
+            }
+            // Guests arrive in no particular hall order; halls are few, so a short scan finds the hall.
+            while (table < firstTable[venue]) {
+                venue--;
+            }
+            while (table >= firstTable[venue + 1]) {
+                venue++;
+            }
+            venueOf[guest] = venue;
+        }
+    }
+
+    // All halls as one plan, tables numbered through the halls in order.
+    SeatingPlan getMergedPlan() { return plan; }
+
+    public int getVenueCount() { return venues.size(); }
+
+    public Venue getVenue(int venue) { return venues.get(venue); }
+
+    public int getGuestCount() { return plan.getGuestCount(); }
+
+    public int getSeatedCount() { return plan.getSeatedCount(); }
+
+    public Guest getGuest(int guestIndex) { return plan.getGuest(guestIndex); }
+
+    /** Venue index of the guest at {@code guestIndex}, or -1 if that guest has no seat. */
+    public int venueOf(int guestIndex) { return venueOf[guestIndex]; }
+
+    /** Table number within the guest's venue, or -1 if that guest has no seat. */
+    public int tableOf(int guestIndex) {
+        int table = plan.tableOf(guestIndex);
+        return table < 0 ? -1 : table - firstTable[venueOf[guestIndex]];
+    }
+
+    public int tableSize(int venue, int table) { return plan.tableSize(mergedTable(venue, table)); }
+
+    /** First position of the table's guests; see {@link #guestAt}. */
+    public int tableStart(int venue, int table) { return plan.tableStart(mergedTable(venue, table)); }
+
+    /** Position just past the table's last guest. */
+    public int tableEnd(int venue, int table) { return plan.tableEnd(mergedTable(venue, table)); }
+
+    /** Index in the planned list of the guest at a position. */
+    public int guestIndexAt(int position) { return plan.guestIndexAt(position); }
+
+    public Guest guestAt(int position) { return plan.guestAt(position); }
+
+    /** One hall's seating as {@link SeatingPlanner#generateSeating} returns it. */
+    public Map<Integer, List<Guest>> toMap(int venue) {
+        Map<Integer, List<Guest>> seating = new LinkedHashMap<>();
+        for (int table = 1; table <= venues.get(venue).getTables(); table++) {
+            int start = tableStart(venue, table);
+            int end = tableEnd(venue, table);
+            if (end > start) {
+                List<Guest> list = new ArrayList<>(end - start);
+                for (int p = start; p < end; p++) {
+                    list.add(plan.guestAt(p));
+                }
+                seating.put(table, list);
+            }
+        }
+        return seating;
+    }
+
+    // 1-based table of the merged plan.
+    private int mergedTable(int venue, int table) {
+        Objects.checkIndex(table - 1, venues.get(venue).getTables());
+        return firstTable[venue] + table;
+    }
+}
@@ -0,0 +1,276 @@
+package edu.course.eventplanner.service;
+
+import java.util.*;
+
+/**
+ * Name lookups that the exact-match map cannot answer, backed by a burst
+ * trie: a character trie whose leaves are small buckets of names that are
+ * split into child nodes once they grow past {@link #BUCKET_LIMIT}.
+ *
+ * <p>Prefix queries walk down to the prefix and read names off in sorted
+ * order. Typo-tolerant queries walk the trie carrying one Levenshtein row per
+ * depth and skip a whole subtree as soon as every entry of its row exceeds the
+ * allowed distance, so shared prefixes are only compared once.
+ *
+ * <p>The pruning is strong for one edit, a fraction of a millisecond per
+ * query over 1M names. With two edits far more subtrees near the root
+ * survive and a query over 1M names can take milliseconds, so interactive
+ * callers stick to one edit.
+ */
+class NameIndex {
+    private static final int BUCKET_LIMIT = 8;
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final class Node {
+        // Leaf nodes hold a bucket; internal nodes hold sorted child keys instead.
+        List<String> bucket;
+        String terminal;
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+
+        Node child(char key) {
+            int i = Arrays.binarySearch(keys, 0, childCount, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char key) {
+            int i = -(Arrays.binarySearch(keys, 0, childCount, key) + 1);
+            if (childCount == keys.length) {
+                int capacity = Math.max(4, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, i, keys, i + 1, childCount - i);
+            System.arraycopy(children, i, children, i + 1, childCount - i);
+            Node child = new Node();
+            child.bucket = new ArrayList<>();
+            keys[i] = key;
+            children[i] = child;
+            childCount++;
+            return child;
+        }
+    }
+
+    private final Node root = new Node();
+    private int size;
+
+    // Reused DP rows: rows[d] is the Levenshtein row after d name characters.
+    private int[][] rows = new int[0][];
+    private int[] scratchPrevious = new int[0];
+    private int[] scratchCurrent = new int[0];
+
+    void add(String name) {
+        if (insert(root, 0, name)) {
+            size++;
+        }
+    }
+
+    void remove(String name) {
+        Node node = root;
+        int depth = 0;
+        while (node.bucket == null) {
+            if (depth == name.length()) {
+                if (name.equals(node.terminal)) {
+                    node.terminal = null;
+                    size--;
+                }
+                return;
+            }
+            node = node.child(name.charAt(depth++));
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.bucket.remove(name)) {
+            size--;
+        }
+    }
+
+    List<String> findByPrefix(String prefix, int limit) {
+        List<String> matches = new ArrayList<>(Math.min(limit, 64));
+        Node node = root;
+        for (int depth = 0; depth < prefix.length(); depth++) {
+            if (node.bucket != null) {
+                List<String> sorted = sortedBucket(node);
+                for (String name : sorted) {
+                    if (matches.size() >= limit) {
+                        break;
+                    }
+                    if (name.startsWith(prefix)) {
+                        matches.add(name);
+                    }
+                }
+                return matches;
+            }
+            node = node.child(prefix.charAt(depth));
+            if (node == null) {
+                return matches;
+            }
+        }
+        collect(node, matches, limit);
+        return matches;
+    }
+
+    /** Names within {@code maxDistance} edits of {@code query}, closest first. */
+    List<String> findSimilar(String query, int maxDistance) {
+        List<String> similar = new ArrayList<>();
+        if (maxDistance < 0) {
+            return similar;
+        }
+        List<List<String>> byDistance = new ArrayList<>();
+        for (int d = 0; d <= maxDistance; d++) {
+            byDistance.add(new ArrayList<>());
+        }
+        int[] first = row(0, query.length());
+        for (int j = 0; j <= query.length(); j++) {
+            first[j] = j;
+        }
+        search(root, 0, query, maxDistance, byDistance);
+        for (List<String> bucket : byDistance) {
+            Collections.sort(bucket);
+            similar.addAll(bucket);
+        }
+        return similar;
+    }
+
+    int size() { return size; }
+
+    private boolean insert(Node node, int depth, String name) {
+        while (node.bucket == null) {
+            if (depth == name.length()) {
+                if (node.terminal != null) {
+                    return false;
+                }
+                node.terminal = name;
+                return true;
+            }
+            char key = name.charAt(depth++);
+            Node child = node.child(key);
+            node = child != null ? child : node.addChild(key);
+        }
+        if (node.bucket.contains(name)) {
+            return false;
+        }
+        node.bucket.add(name);
+        if (node.bucket.size() > BUCKET_LIMIT) {
+            burst(node, depth);
+        }
+        return true;
+    }
+
+    private void burst(Node node, int depth) {
+        List<String> names = node.bucket;
+        node.bucket = null;
+        for (String name : names) {
+            insert(node, depth, name);
+        }
+    }
+
+    private void collect(Node node, List<String> matches, int limit) {
+        if (node.bucket != null) {
+            for (String name : sortedBucket(node)) {
+                if (matches.size() >= limit) {
+                    return;
+                }
+                matches.add(name);
+            }
+            return;
+        }
+        if (node.terminal != null && matches.size() < limit) {
+            matches.add(node.terminal);
+        }
+        for (int i = 0; i < node.childCount && matches.size() < limit; i++) {
+            collect(node.children[i], matches, limit);
+        }
+    }
+
+    private static List<String> sortedBucket(Node node) {
+        List<String> sorted = new ArrayList<>(node.bucket);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private void search(Node node, int depth, String query, int maxDistance, List<List<String>> byDistance) {
+        int m = query.length();
+        int[] row = rows[depth];
+        if (node.bucket != null) {
+            for (String name : node.bucket) {
+                int distance = finishDistance(row, depth, name, query, maxDistance);
+                if (distance <= maxDistance) {
+                    byDistance.get(distance).add(name);
+                }
+            }
+            return;
+        }
+        if (node.terminal != null && Math.abs(depth - m) <= maxDistance && row[m] <= maxDistance) {
+            byDistance.get(row[m]).add(node.terminal);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            int[] next = row(depth + 1, m);
+            if (step(row, next, depth + 1, node.keys[i], query, maxDistance) <= maxDistance) {
+                search(node.children[i], depth + 1, query, maxDistance, byDistance);
+            }
+        }
+    }
+
+    // Continues the DP from a trie row through the rest of one bucketed name.
+    private int finishDistance(int[] row, int depth, String name, String query, int maxDistance) {
+        int m = query.length();
+        if (Math.abs(name.length() - m) > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (scratchPrevious.length <= m) {
+            scratchPrevious = new int[m + 1];
+            scratchCurrent = new int[m + 1];
+        }
+        int[] previous = scratchPrevious;
+        int[] current = scratchCurrent;
+        System.arraycopy(row, 0, previous, 0, m + 1);
+        for (int i = depth; i < name.length(); i++) {
+            if (step(previous, current, i + 1, name.charAt(i), query, maxDistance) > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+
+    // Computes Levenshtein row i (after i name characters) from row i - 1. Only the
+    // diagonal band |i - j| <= maxDistance can stay within the bound, so cells
+    // outside it are capped instead of computed. Returns the row minimum.
+    private static int step(int[] previous, int[] current, int i, char c, String query, int maxDistance) {
+        int m = query.length();
+        int cap = maxDistance + 1;
+        int lo = Math.max(1, i - maxDistance);
+        int hi = Math.min(m, i + maxDistance);
+        current[0] = Math.min(i, cap);
+        if (lo > 1) {
+            current[lo - 1] = cap;
+        }
+        int rowMin = lo == 1 ? current[0] : cap;
+        for (int j = lo; j <= hi; j++) {
+            int cost = query.charAt(j - 1) == c ? 0 : 1;
+            int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            current[j] = Math.min(value, cap);
+            rowMin = Math.min(rowMin, value);
+        }
+        if (hi < m) {
+            current[hi + 1] = cap;
+        }
+        return rowMin;
+    }
+
+    private int[] row(int depth, int queryLength) {
+        if (depth >= rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(16, depth * 2));
+        }
+        if (rows[depth] == null || rows[depth].length != queryLength + 1) {
+            rows[depth] = new int[queryLength + 1];
+        }
+        return rows[depth];
+    }
+}
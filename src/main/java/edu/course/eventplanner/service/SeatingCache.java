@@ -0,0 +1,154 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import java.util.*;
+
+/**
+ * Remembers the seating plans made for one guest list, so asking again for
+ * the same venue while the list is unchanged costs a hash lookup instead of
+ * a new plan. A plan depends only on the guests and on the venue's table
+ * layout, so entries are keyed by the guest list version and the venue's
+ * tables and seats per table; venues with the same layout share an entry.
+ *
+ * <p>The cache listens to its {@link GuestListManager} and drops every
+ * entry on the first add or remove after a plan was cached. Each entry
+ * also records the version it was made for, so a plan is never served for
+ * a list that has changed since. Entries are evicted least recently used
+ * first, once there are more than {@code maxEntries} of them or their
+ * arrays take more than {@code maxBytes}. A plan grows when its name index
+ * is built by {@link SeatingPlan#tableFor}, so every request re-measures the
+ * cached plans before checking the bounds. Like the manager, the cache is
+ * not thread-safe. {@link #close()} stops listening and empties it.
+ */
+public final class SeatingCache implements GuestListListener, AutoCloseable {
+    public static final int DEFAULT_MAX_ENTRIES = 16;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    private static final class Entry {
+        final SeatingPlan plan;
+        final long version;
+        long bytes;
+        Entry(SeatingPlan plan, long version) {
+            this.plan = plan;
+            this.version = version;
+            bytes = plan.estimatedBytes();
+        }
+    }
+
+    private final GuestListManager manager;
+    private final int maxEntries;
+    private final long maxBytes;
+    // Keyed by tables << 32 | seatsPerTable, in access order for LRU eviction.
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public SeatingCache(GuestListManager manager) {
+        this(manager, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public SeatingCache(GuestListManager manager, int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        this.manager = manager;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        manager.addListener(this);
+    }
+
+    /**
+     * The plan {@link SeatingPlanner#planSeating(List)} makes for the
+     * manager's current guests at this venue, from the cache when possible.
+     * A plan bigger than the memory bound is returned but not kept.
+     *
+     * @throws IllegalArgumentException if the venue has fewer seats than guests
+     */
+    public SeatingPlan planSeating(Venue venue) {
+        trim();
+        long key = (long) venue.getTables() << 32 | venue.getSeatsPerTable() & 0xFFFFFFFFL;
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version == manager.getVersion()) {
+            hits++;
+            return entry.plan;
+        }
+        misses++;
+        if (entry != null) {
+            remove(key);
+        }
+        GuestListSnapshot guests = manager.snapshot();
+        entry = new Entry(new SeatingPlanner(venue).planSeating(guests), guests.getVersion());
+        if (entry.bytes <= maxBytes) {
+            entries.put(key, entry);
+            bytes += entry.bytes;
+            evict();
+        }
+        return entry.plan;
+    }
+
+    /** Drops every cached plan. */
+    public void invalidate() {
+        if (!entries.isEmpty()) {
+            entries.clear();
+            bytes = 0;
+            invalidations++;
+        }
+    }
+
+    @Override
+    public void guestAdded(Guest guest) { invalidate(); }
+
+    @Override
+    public void guestRemoved(Guest guest) { invalidate(); }
+
+    @Override
+    public void close() {
+        manager.removeListener(this);
+        invalidate();
+    }
+
+    public int size() { return entries.size(); }
+
+    /** Estimated heap held by the cached plans, after evicting any that outgrew the bound. */
+    public long getBytes() {
+        trim();
+        return bytes;
+    }
+
+    public long getHitCount() { return hits; }
+
+    public long getMissCount() { return misses; }
+
+    /** Entries dropped to stay within the size or memory bound. */
+    public long getEvictionCount() { return evictions; }
+
+    /** Times the cache was emptied because the guest list changed. */
+    public long getInvalidationCount() { return invalidations; }
+
+    // Re-measures every entry, since name indexes appear after caching, and evicts past the bounds.
+    private void trim() {
+        for (Entry entry : entries.values()) {
+            long now = entry.plan.estimatedBytes();
+            bytes += now - entry.bytes;
+            entry.bytes = now;
+        }
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(long key) {
+        bytes -= entries.remove(key).bytes;
+    }
+}
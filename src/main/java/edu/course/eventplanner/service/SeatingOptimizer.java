@@ -0,0 +1,262 @@
+package edu.course.eventplanner.service;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Simulated annealing over a seating plan, used by
+ * {@link SeatingPlanner#optimizeSeating}. Each worker starts from the same
+ * plan with its own random stream and never shares state with the others,
+ * so workers scale with cores; the best plan any worker found wins.
+ *
+ * <p>A plan's cost is the sum over groups of the tables the group sits at,
+ * which is also the sum over tables of the distinct groups at the table,
+ * plus one for every group that sits at more than one table. A move takes
+ * a guest, or the guest's whole party at its table, to another table and
+ * swaps with whoever sits there; half the time the target is a table where
+ * the guest's group already sits. The packed starting plan is already good,
+ * so the temperature starts low enough not to scramble it.
+ */
+final class SeatingOptimizer {
+    private static final double START_TEMPERATURE = 0.3;
+    private static final double END_TEMPERATURE = 0.05;
+    // How many moves run between clock reads and temperature updates.
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final int tables;
+    private final int seatsPerTable;
+    private final int[] groupOf;
+    private final int[] startTable;
+    // Guests of each group in CSR layout: members[memberStart[g] .. memberStart[g + 1]).
+    private final int[] memberStart;
+    private final int[] members;
+
+    SeatingOptimizer(int tables, int seatsPerTable, int[] groupOf, int groupCount, int[] startTable) {
+        this.tables = tables;
+        this.seatsPerTable = seatsPerTable;
+        this.groupOf = groupOf;
+        this.startTable = startTable;
+        memberStart = new int[groupCount + 1];
+        for (int g : groupOf) {
+            if (g >= 0) {
+                memberStart[g + 1]++;
+            }
+        }
+        for (int g = 0; g < groupCount; g++) {
+            memberStart[g + 1] += memberStart[g];
+        }
+        members = new int[memberStart[groupCount]];
+        int[] fill = Arrays.copyOf(memberStart, groupCount);
+        for (int guest = 0; guest < groupOf.length; guest++) {
+            if (groupOf[guest] >= 0) {
+                members[fill[groupOf[guest]]++] = guest;
+            }
+        }
+    }
+
+    /**
+     * Runs {@code workers} searches on the common fork-join pool, each until
+     * {@code budgetNanos} have passed since {@code startNanos} (a
+     * {@code System.nanoTime()} value) or it has made {@code iterations} moves, and returns the best table
+     * assignment found. With a fixed seed and an iteration limit the result
+     * is deterministic.
+     */
+    int[] optimize(int workers, long seed, long startNanos, long budgetNanos, long iterations) {
+        // No moves allowed: the annealing schedule would divide by zero, so keep the start plan.
+        if (members.length == 0 || iterations == 0 || budgetNanos <= 0) {
+            return startTable;
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Callable<Search>> searches = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            Search search = new Search(seeds.split());
+            searches.add(() -> {
+                search.run(startNanos, budgetNanos, iterations);
+                return search;
+            });
+        }
+        Search best = null;
+        // Ties go to the lowest worker so fixed-seed runs always pick the same plan.
+        for (var result : ForkJoinPool.commonPool().invokeAll(searches)) {
+            Search search = result.resultNow();
+            if (best == null || search.bestCost < best.bestCost) {
+                best = search;
+            }
+        }
+        return best.bestTables();
+    }
+
+    /** One annealing run over its own copy of the seat map. */
+    private final class Search {
+        private final SplittableRandom random;
+        // seats[table * seatsPerTable + k] is the guest in that seat, or -1.
+        private final int[] seats = new int[tables * seatsPerTable];
+        private final int[] seatOf = new int[groupOf.length];
+        private final int[] tablesUsed = new int[memberStart.length - 1];
+        private int[] bestSeatOf;
+        private long cost;
+        long bestCost;
+
+        Search(SplittableRandom random) {
+            this.random = random;
+            Arrays.fill(seats, -1);
+            int[] filled = new int[tables];
+            for (int guest = 0; guest < groupOf.length; guest++) {
+                int table = startTable[guest];
+                if (table < 0) {
+                    seatOf[guest] = -1;
+                    continue;
+                }
+                int seat = table * seatsPerTable + filled[table]++;
+                seats[seat] = guest;
+                seatOf[guest] = seat;
+                if (countAt(groupOf[guest], table) == 1) {
+                    tablesUsed[groupOf[guest]]++;
+                }
+            }
+            for (int used : tablesUsed) {
+                cost += used + (used > 1 ? 1 : 0);
+            }
+            bestCost = cost;
+            bestSeatOf = seatOf.clone();
+        }
+
+        void run(long startNanos, long budgetNanos, long iterations) {
+            double temperature = START_TEMPERATURE;
+            for (long move = 0; ; move++) {
+                if (move % CHECK_INTERVAL == 0) {
+                    double progress = Math.max((double) move / iterations,
+                            (double) (System.nanoTime() - startNanos) / budgetNanos);
+                    if (progress >= 1) {
+                        break;
+                    }
+                    temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                }
+                tryMove(temperature);
+            }
+            if (cost < bestCost) {
+                saveBest();
+            }
+        }
+
+        private void tryMove(double temperature) {
+            int guest = members[random.nextInt(members.length)];
+            int group = groupOf[guest];
+            int from = seatOf[guest] / seatsPerTable;
+            int to;
+            if (random.nextBoolean()) {
+                int mate = members[memberStart[group] + random.nextInt(memberStart[group + 1] - memberStart[group])];
+                to = seatOf[mate] / seatsPerTable;
+            } else {
+                to = random.nextInt(tables);
+            }
+            if (to == from) {
+                return;
+            }
+            int targetSeat = to * seatsPerTable + random.nextInt(seatsPerTable);
+            int other = seats[targetSeat];
+            int otherGroup = other < 0 ? -1 : groupOf[other];
+            if (otherGroup == group) {
+                return;
+            }
+            int moving = 1;
+            int otherMoving = other < 0 ? 0 : 1;
+            if (random.nextBoolean()) {
+                // Carry the guest's whole party at this table, swapped for an equal party or empty seats.
+                moving = countAt(group, from);
+                otherMoving = other < 0 ? 0 : countAt(otherGroup, to);
+                if (other < 0 ? countAt(-1, to) < moving : otherMoving != moving) {
+                    return;
+                }
+            }
+            int delta = moveDelta(group, from, to, moving);
+            if (other >= 0) {
+                delta += moveDelta(otherGroup, to, from, otherMoving);
+            }
+            if (delta > 0 && random.nextDouble() >= Math.exp(-delta / temperature)) {
+                return;
+            }
+            if (delta > 0 && cost < bestCost) {
+                // About to leave a plan better than any saved one.
+                saveBest();
+            }
+            tablesUsed[group] += tablesChange(group, from, to, moving);
+            if (other >= 0) {
+                tablesUsed[otherGroup] += tablesChange(otherGroup, to, from, otherMoving);
+            }
+            if (moving == 1) {
+                int guestSeat = seatOf[guest];
+                seats[targetSeat] = guest;
+                seatOf[guest] = targetSeat;
+                seats[guestSeat] = other;
+                if (other >= 0) {
+                    seatOf[other] = guestSeat;
+                }
+            } else {
+                swapParties(group, from, otherGroup, to);
+            }
+            cost += delta;
+        }
+
+        // Cost change of moving some guests of a group between tables, evaluated before any seat changes.
+        private int moveDelta(int group, int from, int to, int moving) {
+            int used = tablesUsed[group];
+            int after = used + tablesChange(group, from, to, moving);
+            return after - used + (after > 1 ? 1 : 0) - (used > 1 ? 1 : 0);
+        }
+
+        private int tablesChange(int group, int from, int to, int moving) {
+            return (countAt(group, to) == 0 ? 1 : 0) - (countAt(group, from) == moving ? 1 : 0);
+        }
+
+        // Swaps every guest of group at one table with the guests of otherGroup (-1: empty seats) at another.
+        private void swapParties(int group, int from, int otherGroup, int to) {
+            int target = to * seatsPerTable;
+            for (int seat = from * seatsPerTable, end = seat + seatsPerTable; seat < end; seat++) {
+                if (seats[seat] < 0 || groupOf[seats[seat]] != group) {
+                    continue;
+                }
+                while (groupAt(target) != otherGroup) {
+                    target++;
+                }
+                int guest = seats[seat];
+                int other = seats[target];
+                seats[seat] = other;
+                seats[target] = guest;
+                seatOf[guest] = target;
+                if (other >= 0) {
+                    seatOf[other] = seat;
+                }
+                target++;
+            }
+        }
+
+        private int groupAt(int seat) {
+            return seats[seat] < 0 ? -1 : groupOf[seats[seat]];
+        }
+
+        private int countAt(int group, int table) {
+            int count = 0;
+            for (int seat = table * seatsPerTable, end = seat + seatsPerTable; seat < end; seat++) {
+                if (groupAt(seat) == group) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void saveBest() {
+            System.arraycopy(seatOf, 0, bestSeatOf, 0, seatOf.length);
+            bestCost = cost;
+        }
+
+        int[] bestTables() {
+            int[] tableOf = new int[bestSeatOf.length];
+            for (int guest = 0; guest < tableOf.length; guest++) {
+                tableOf[guest] = bestSeatOf[guest] < 0 ? -1 : bestSeatOf[guest] / seatsPerTable;
+            }
+            return tableOf;
+        }
+    }
+}
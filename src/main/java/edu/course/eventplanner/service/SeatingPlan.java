@@ -0,0 +1,161 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import java.util.*;
+
+/**
+ * Immutable seating plan kept in primitive arrays instead of a
+ * {@code Map<Integer, List<Guest>>}. Guests are addressed by their index in
+ * the list the plan was made for. {@code tableOf} maps a guest to a table
+ * in O(1), and the guests of all tables are stored back to back in CSR
+ * layout, so a table is a range of positions:
+ *
+ * <pre>
+ * for (int p = plan.tableStart(table); p &lt; plan.tableEnd(table); p++) {
+ *     Guest guest = plan.guestAt(p);
+ * }
+ * </pre>
+ *
+ * <p>Iterating a table this way allocates nothing. Table numbers start at 1
+ * as in {@link SeatingPlanner#generateSeating}.
+ */
+public final class SeatingPlan {
+    private final Guest[] guests;
+    // 0-based table per guest index, -1 for guests without a seat.
+    private final int[] tableOf;
+    // Guests of table t (0-based) are seated[tableStart[t] .. tableStart[t + 1]).
+    private final int[] tableStart;
+    private final int[] seated;
+    // Name to guest index, built on the first lookup by name.
+    private volatile Map<String, Integer> indexByName;
+
+    SeatingPlan(List<Guest> guests, int[] tableOf, int tables) {
+        this.guests = guests.toArray(new Guest[0]);
+        this.tableOf = tableOf;
+        tableStart = new int[tables + 1];
+        for (int table : tableOf) {
+            if (table >= 0) {
+                tableStart[table + 1]++;
+            }
+        }
+        for (int table = 0; table < tables; table++) {
+            tableStart[table + 1] += tableStart[table];
+        }
+        seated = new int[tableStart[tables]];
+        int[] fill = Arrays.copyOf(tableStart, tables);
+        for (int guest = 0; guest < tableOf.length; guest++) {
+            if (tableOf[guest] >= 0) {
+                seated[fill[tableOf[guest]]++] = guest;
+            }
+        }
+    }
+
+    public int getTableCount() { return tableStart.length - 1; }
+
+    /** Guests in the planned list, seated or not. */
+    public int getGuestCount() { return guests.length; }
+
+    public int getSeatedCount() { return seated.length; }
+
+    public Guest getGuest(int guestIndex) { return guests[guestIndex]; }
+
+    /** Table number of the guest at {@code guestIndex}, or -1 if that guest has no seat. */
+    public int tableOf(int guestIndex) {
+        int table = tableOf[guestIndex];
+        return table < 0 ? -1 : table + 1;
+    }
+
+    public int tableSize(int table) { return tableEnd(table) - tableStart(table); }
+
+    /** First position of the table's guests; see {@link #guestAt}. */
+    public int tableStart(int table) {
+        Objects.checkIndex(table - 1, tableStart.length - 1);
+        return tableStart[table - 1];
+    }
+
+    /** Position just past the table's last guest. */
+    public int tableEnd(int table) {
+        Objects.checkIndex(table - 1, tableStart.length - 1);
+        return tableStart[table];
+    }
+
+    /**
+     * Table number of the guest with this name, or -1 if no seated guest has
+     * it. The first call builds a name index in O(n); later calls are O(1).
+     */
+    public int tableFor(String name) {
+        Integer guest = nameIndex().get(name);
+        return guest == null ? -1 : tableOf(guest);
+    }
+
+    /** Everyone else at the named guest's table, or an empty list if that guest is not seated. */
+    public List<Guest> tableMates(String name) {
+        Integer guest = nameIndex().get(name);
+        if (guest == null || tableOf[guest] < 0) {
+            return List.of();
+        }
+        int table = tableOf[guest];
+        List<Guest> mates = new ArrayList<>(tableStart[table + 1] - tableStart[table] - 1);
+        for (int p = tableStart[table]; p < tableStart[table + 1]; p++) {
+            if (seated[p] != guest) {
+                mates.add(guests[seated[p]]);
+            }
+        }
+        return mates;
+    }
+
+    private Map<String, Integer> nameIndex() {
+        Map<String, Integer> index = indexByName;
+        if (index == null) {
+            // Plans are shared through SeatingCache; racing threads build equal maps and either one may win.
+            index = HashMap.newHashMap(seated.length);
+            for (int guest : seated) {
+                index.putIfAbsent(guests[guest].getName(), guest);
+            }
+            indexByName = index;
+        }
+        return index;
+    }
+
+    // Heap taken by the plan's own arrays, plus the name index once built, assuming compressed
+    // references; the guests and their names are shared, not counted.
+    long estimatedBytes() {
+        long arrays = 4 * 16 + 4L * (guests.length + tableOf.length + tableStart.length + seated.length);
+        Map<String, Integer> index = indexByName;
+        if (index == null) {
+            return arrays;
+        }
+        // The HashMap and its bucket array, then a 32-byte node and a 16-byte Integer per entry.
+        int buckets = Math.max(1, Integer.highestOneBit(Math.max(1, (int) Math.ceil(index.size() / 0.75)) * 2 - 1));
+        return arrays + 48 + 16 + 4L * buckets + 48L * index.size();
+    }
+
+    /** Index in the planned list of the guest at a position, for use with {@link #tableOf}. */
+    public int guestIndexAt(int position) { return seated[position]; }
+
+    public Guest guestAt(int position) { return guests[seated[position]]; }
+
+    /** The plan as {@link SeatingPlanner#generateSeating} returns it: occupied tables only, in table order. */
+    public Map<Integer, List<Guest>> toMap() {
+        int tables = getTableCount();
+        int occupied = 0;
+        for (int table = 0; table < tables; table++) {
+            if (tableStart[table + 1] > tableStart[table]) {
+                occupied++;
+            }
+        }
+        Map<Integer, List<Guest>> seating = LinkedHashMap.newLinkedHashMap(occupied);
+        for (int table = 0; table < tables; table++) {
+            int start = tableStart[table];
+            int end = tableStart[table + 1];
+            if (end > start) {
+                List<Guest> list = new ArrayList<>(end - start);
+                for (int p = start; p < end; p++) {
+                    list.add(guests[seated[p]]);
+                }
+                seating.put(table + 1, list);
+            }
+        }
+        return seating;
+    }
+}
@@ -1,10 +1,377 @@
 package edu.course.eventplanner.service;
 
+import edu.course.eventplanner.metrics.Operation;
+import edu.course.eventplanner.metrics.ServiceMetrics;
 import edu.course.eventplanner.model.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+/**
+ * Seats guests at a venue's tables, keeping guests with the same group tag
+ * together. Groups are packed largest first: a group fills whole empty tables
+ * while it is at least a table in size, and the rest goes to the table whose
+ * free seats fit it most tightly. A group is split further only when no
+ * single table has room for what is left of it. Runs in O(n + g log g) for n
+ * guests in g groups.
+ */
 public class SeatingPlanner {
     private final Venue venue;
     public SeatingPlanner(Venue venue) { this.venue = venue; }
-    public Map<Integer, List<Guest>> generateSeating(List<Guest> guests) { return null; }
+
+    /**
+     * Returns the guests seated at each occupied table, keyed by table number
+     * starting at 1, in table order. Null guests are skipped.
+     *
+     * @throws IllegalArgumentException if the venue has fewer seats than guests
+     */
+    public Map<Integer, List<Guest>> generateSeating(List<Guest> guests) {
+        long start = ServiceMetrics.start();
+        Map<Integer, List<Guest>> seating = plan(guests, assignTables(guests)).toMap();
+        ServiceMetrics.stop(Operation.GENERATE_SEATING, start);
+        return seating;
+    }
+
+    /**
+     * Same seating as {@link #generateSeating}, as a compact
+     * {@link SeatingPlan} addressed by index into {@code guests}. The plan
+     * also answers which table a guest is at, and who else sits there, by
+     * name in O(1) through {@link SeatingPlan#tableFor} and
+     * {@link SeatingPlan#tableMates}.
+     */
+    public SeatingPlan planSeating(List<Guest> guests) {
+        long start = ServiceMetrics.start();
+        SeatingPlan plan = plan(guests, assignTables(guests));
+        ServiceMetrics.stop(Operation.GENERATE_SEATING, start);
+        return plan;
+    }
+
+    /**
+     * Seats guests so that every {@link SeatingConstraint} holds where
+     * possible, still keeping groups together where the rules allow. When
+     * the rules cannot all be met at once, the plan breaks as few of them as
+     * repair finds and lists the broken ones. Constraints naming guests who
+     * are not in {@code guests} are ignored.
+     *
+     * @throws IllegalArgumentException if the venue has fewer seats than guests
+     */
+    public ConstrainedSeating planSeating(List<Guest> guests, Collection<SeatingConstraint> constraints) {
+        long start = ServiceMetrics.start();
+        int[] groupOf = new int[guests.size()];
+        int groupCount = groupGuests(guests, groupOf);
+        int seated = 0;
+        for (int g : groupOf) {
+            seated += g >= 0 ? 1 : 0;
+        }
+        checkSeats(seated);
+        ConstraintSolver solver = new ConstraintSolver(venue.getTables(), venue.getSeatsPerTable(), guests,
+                groupOf, constraints);
+        int[] tableOf = solver.solve(groupCount);
+        ConstrainedSeating seating = new ConstrainedSeating(plan(guests, tableOf), solver.violations(tableOf));
+        ServiceMetrics.stop(Operation.GENERATE_SEATING, start);
+        return seating;
+    }
+
+    /**
+     * Seats guests across several halls. Groups are dealt out largest first,
+     * each to the hall with the most free seats, so a group is split between
+     * halls only when it is bigger than the room left in any of them. Each
+     * hall is then seated as {@link #generateSeating} would, all halls in
+     * parallel on the common fork-join pool. Dealing out the groups takes
+     * O(n + g log g + g h) for n guests in g groups over h halls.
+     *
+     * @throws IllegalArgumentException if the halls have fewer seats than guests
+     */
+    public static MultiVenuePlan planAcross(List<Venue> halls, List<Guest> guests) {
+        long start = ServiceMetrics.start();
+        int n = guests.size();
+        int[] groupOf = new int[n];
+        int groupCount = groupGuests(guests, groupOf);
+        int[] groupSize = new int[groupCount];
+        for (int g : groupOf) {
+            if (g >= 0) {
+                groupSize[g]++;
+            }
+        }
+        int[] hallOf = partition(halls, groupOf, groupSize, n);
+
+        // Guests of hall h, in list order, are members[memberStart[h] .. memberStart[h + 1]).
+        int[] memberStart = new int[halls.size() + 1];
+        for (int h : hallOf) {
+            if (h >= 0) {
+                memberStart[h + 1]++;
+            }
+        }
+        int[] firstTable = new int[halls.size() + 1];
+        for (int h = 0; h < halls.size(); h++) {
+            memberStart[h + 1] += memberStart[h];
+            firstTable[h + 1] = firstTable[h] + halls.get(h).getTables();
+        }
+        int[] members = new int[memberStart[halls.size()]];
+        int[] fill = Arrays.copyOf(memberStart, halls.size());
+        for (int guest = 0; guest < n; guest++) {
+            if (hallOf[guest] >= 0) {
+                members[fill[hallOf[guest]]++] = guest;
+            }
+        }
+
+        int[] tableOf = new int[n];
+        Arrays.fill(tableOf, -1);
+        List<Callable<Void>> seatings = new ArrayList<>(halls.size());
+        for (int h = 0; h < halls.size(); h++) {
+            int hall = h;
+            seatings.add(() -> {
+                int from = memberStart[hall];
+                int[] hallGroupOf = new int[memberStart[hall + 1] - from];
+                // Renumber the groups present in this hall so the packing only sorts those.
+                int[] localGroup = new int[groupCount];
+                Arrays.fill(localGroup, -1);
+                int hallGroups = 0;
+                for (int i = 0; i < hallGroupOf.length; i++) {
+                    int g = groupOf[members[from + i]];
+                    if (localGroup[g] < 0) {
+                        localGroup[g] = hallGroups++;
+                    }
+                    hallGroupOf[i] = localGroup[g];
+                }
+                int[] hallTableOf = new SeatingPlanner(halls.get(hall)).assignTables(hallGroupOf, hallGroups);
+                // Each hall writes only its own guests' entries.
+                for (int i = 0; i < hallTableOf.length; i++) {
+                    tableOf[members[from + i]] = firstTable[hall] + hallTableOf[i];
+                }
+                return null;
+            });
+        }
+        for (var seating : ForkJoinPool.commonPool().invokeAll(seatings)) {
+            if (seating.state() == Future.State.FAILED) {
+                throw new IllegalStateException("Seating a hall failed", seating.exceptionNow());
+            }
+        }
+        MultiVenuePlan plan = new MultiVenuePlan(halls, firstTable, guests, tableOf);
+        ServiceMetrics.stop(Operation.GENERATE_SEATING, start);
+        return plan;
+    }
+
+    // Returns the hall of each guest, or -1 for null guests.
+    private static int[] partition(List<Venue> halls, int[] groupOf, int[] groupSize, int n) {
+        long[] free = new long[halls.size()];
+        long seats = 0;
+        for (int h = 0; h < free.length; h++) {
+            free[h] = (long) halls.get(h).getTables() * halls.get(h).getSeatsPerTable();
+            seats += free[h];
+        }
+        int seated = 0;
+        for (int size : groupSize) {
+            seated += size;
+        }
+        if (seated > seats) {
+            throw new IllegalArgumentException("The halls seat " + seats + " guests, not " + seated);
+        }
+
+        int groupCount = groupSize.length;
+        long[] order = new long[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            order[g] = (long) (n - groupSize[g]) << 32 | g;
+        }
+        Arrays.sort(order);
+        // As in assignTables: each group gets a run of pieces, "this many of the group in that hall".
+        int[] pieceHall = new int[groupCount + 16];
+        int[] pieceSeats = new int[groupCount + 16];
+        int[] nextPiece = new int[groupCount];
+        int pieces = 0;
+        for (long key : order) {
+            int g = (int) key;
+            nextPiece[g] = pieces;
+            int remaining = groupSize[g];
+            while (remaining > 0) {
+                // If the roomiest hall cannot take the whole group, no hall can: fill it and go on.
+                int hall = 0;
+                for (int h = 1; h < free.length; h++) {
+                    if (free[h] > free[hall]) {
+                        hall = h;
+                    }
+                }
+                int take = (int) Math.min(remaining, free[hall]);
+                if (pieces == pieceHall.length) {
+                    pieceHall = Arrays.copyOf(pieceHall, pieces * 2);
+                    pieceSeats = Arrays.copyOf(pieceSeats, pieces * 2);
+                }
+                pieceHall[pieces] = hall;
+                pieceSeats[pieces++] = take;
+                free[hall] -= take;
+                remaining -= take;
+            }
+        }
+
+        int[] hallOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            int g = groupOf[i];
+            if (g < 0) {
+                hallOf[i] = -1;
+                continue;
+            }
+            int piece = nextPiece[g];
+            hallOf[i] = pieceHall[piece];
+            if (--pieceSeats[piece] == 0) {
+                nextPiece[g]++;
+            }
+        }
+        return hallOf;
+    }
+
+    /**
+     * Starts from {@link #generateSeating} and improves the plan by parallel
+     * simulated annealing until {@code timeBudget} has passed, aiming for
+     * fewer distinct groups per table and fewer split groups. Uses one
+     * independent search per core of the common fork-join pool.
+     */
+    public Map<Integer, List<Guest>> optimizeSeating(List<Guest> guests, Duration timeBudget) {
+        long start = System.nanoTime();
+        return optimizeSeating(guests, ForkJoinPool.getCommonPoolParallelism(), start, timeBudget.toNanos(),
+                Long.MAX_VALUE, System.nanoTime());
+    }
+
+    /**
+     * Deterministic variant of {@link #optimizeSeating(List, Duration)}:
+     * {@code workers} searches seeded from {@code seed} each make
+     * {@code iterationsPerWorker} moves, so the same inputs always give the
+     * same plan.
+     */
+    public Map<Integer, List<Guest>> optimizeSeating(List<Guest> guests, long seed, int workers,
+            long iterationsPerWorker) {
+        if (workers < 1 || iterationsPerWorker < 0) {
+            throw new IllegalArgumentException("Need at least one worker and a non-negative iteration count");
+        }
+        return optimizeSeating(guests, workers, System.nanoTime(), Long.MAX_VALUE, iterationsPerWorker, seed);
+    }
+
+    private Map<Integer, List<Guest>> optimizeSeating(List<Guest> guests, int workers, long startNanos,
+            long budgetNanos, long iterations, long seed) {
+        int[] groupOf = new int[guests.size()];
+        int groupCount = groupGuests(guests, groupOf);
+        int[] tableOf = assignTables(groupOf, groupCount);
+        SeatingOptimizer optimizer = new SeatingOptimizer(venue.getTables(), venue.getSeatsPerTable(), groupOf,
+                groupCount, tableOf);
+        return plan(guests, optimizer.optimize(workers, seed, startNanos, budgetNanos, iterations)).toMap();
+    }
+
+    private SeatingPlan plan(List<Guest> guests, int[] tableOf) {
+        return new SeatingPlan(guests, tableOf, venue.getTables());
+    }
+
+    // Returns the 0-based table of each guest, or -1 for null guests.
+    private int[] assignTables(List<Guest> guests) {
+        int[] groupOf = new int[guests.size()];
+        return assignTables(groupOf, groupGuests(guests, groupOf));
+    }
+
+    /**
+     * Numbers the distinct group tags in order of first appearance and
+     * stores each guest's group number in {@code groupOf}, -1 for null
+     * guests. Returns the number of groups.
+     */
+    static int groupGuests(List<Guest> guests, int[] groupOf) {
+        Map<String, Integer> groupIds = new HashMap<>();
+        int i = 0;
+        for (Guest guest : guests) {
+            if (guest == null) {
+                groupOf[i++] = -1;
+                continue;
+            }
+            Integer id = groupIds.get(guest.getGroupTag());
+            if (id == null) {
+                id = groupIds.size();
+                groupIds.put(guest.getGroupTag(), id);
+            }
+            groupOf[i++] = id;
+        }
+        return groupIds.size();
+    }
+
+    int[] assignTables(int[] groupOf, int groupCount) {
+        return assignTables(groupOf, groupCount, false);
+    }
+
+    /**
+     * Packs groups onto tables as described on the class. With
+     * {@code spread}, each piece goes to the emptiest table instead of the
+     * tightest fit, which leaves the free seats spread over all tables so
+     * that later arrivals can join their group.
+     */
+    int[] assignTables(int[] groupOf, int groupCount, boolean spread) {
+        int n = groupOf.length;
+        int[] tableOf = new int[n];
+        int[] groupSize = new int[groupCount];
+        int seated = 0;
+        for (int g : groupOf) {
+            if (g >= 0) {
+                groupSize[g]++;
+                seated++;
+            }
+        }
+        checkSeats(seated);
+        if (seated == 0) {
+            Arrays.fill(tableOf, -1);
+            return tableOf;
+        }
+
+        // Largest groups first; ties keep first-appearance order.
+        long[] order = new long[groupCount];
+        for (int g = 0; g < groupCount; g++) {
+            order[g] = (long) (n - groupSize[g]) << 32 | g;
+        }
+        Arrays.sort(order);
+
+        TableLevels levels = new TableLevels(venue.getTables(), venue.getSeatsPerTable());
+        // Each group gets a run of pieces: "seat this many of the group at that table".
+        int[] pieceTable = new int[groupCount + 16];
+        int[] pieceSeats = new int[groupCount + 16];
+        int[] nextPiece = new int[groupCount];
+        int pieces = 0;
+        for (long key : order) {
+            int g = (int) key;
+            nextPiece[g] = pieces;
+            int remaining = groupSize[g];
+            while (remaining > 0) {
+                // Best fit for the rest of the group, else split it over the emptiest table.
+                int table = remaining < venue.getSeatsPerTable() && !spread ? levels.bestFit(remaining) : -1;
+                if (table < 0) {
+                    table = levels.emptiest();
+                }
+                int take = Math.min(remaining, levels.free(table));
+                if (pieces == pieceTable.length) {
+                    pieceTable = Arrays.copyOf(pieceTable, pieces * 2);
+                    pieceSeats = Arrays.copyOf(pieceSeats, pieces * 2);
+                }
+                pieceTable[pieces] = table;
+                pieceSeats[pieces++] = take;
+                levels.occupy(table, take);
+                remaining -= take;
+            }
+        }
+
+        // Hand out each group's seats to its guests in list order.
+        for (int i = 0; i < n; i++) {
+            int g = groupOf[i];
+            if (g < 0) {
+                tableOf[i] = -1;
+                continue;
+            }
+            int piece = nextPiece[g];
+            tableOf[i] = pieceTable[piece];
+            if (--pieceSeats[piece] == 0) {
+                nextPiece[g]++;
+            }
+        }
+        return tableOf;
+    }
+
+    private void checkSeats(int seated) {
+        long seats = (long) venue.getTables() * venue.getSeatsPerTable();
+        if (seated > seats) {
+            throw new IllegalArgumentException(venue.getName() + " seats " + seats + " guests, not " + seated);
+        }
+    }
 }
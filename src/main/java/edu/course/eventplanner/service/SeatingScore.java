@@ -0,0 +1,55 @@
+package edu.course.eventplanner.service;
+
+/**
+ * Quality of a seating plan, as measured by {@link SeatingScorer}. Lower is
+ * better for everything except {@link #getSeatedGuests}.
+ */
+public final class SeatingScore {
+    private final int seatedGuests;
+    private final int occupiedTables;
+    private final long groupTableSum;
+    private final int splitGroups;
+    private final double fillVariance;
+    private final int constraintViolations;
+
+    SeatingScore(int seatedGuests, int occupiedTables, long groupTableSum, int splitGroups, double fillVariance,
+            int constraintViolations) {
+        this.seatedGuests = seatedGuests;
+        this.occupiedTables = occupiedTables;
+        this.groupTableSum = groupTableSum;
+        this.splitGroups = splitGroups;
+        this.fillVariance = fillVariance;
+        this.constraintViolations = constraintViolations;
+    }
+
+    public int getSeatedGuests() { return seatedGuests; }
+
+    public int getOccupiedTables() { return occupiedTables; }
+
+    /** Distinct groups at each occupied table, summed over the tables. */
+    public long getGroupTableSum() { return groupTableSum; }
+
+    /** Mean distinct groups per occupied table; 1 means no table mixes groups. */
+    public double getGroupsPerTable() {
+        return occupiedTables == 0 ? 0 : (double) groupTableSum / occupiedTables;
+    }
+
+    /** Groups seated at more than one table. */
+    public int getSplitGroups() { return splitGroups; }
+
+    /** Population variance of the guest count over occupied tables. */
+    public double getFillVariance() { return fillVariance; }
+
+    /** Constraints the plan breaks; 0 when the plan was scored without constraints. */
+    public int getConstraintViolations() { return constraintViolations; }
+
+    /** The cost {@link SeatingPlanner#optimizeSeating} minimizes: table-group pairs plus split groups. */
+    public long getCost() { return groupTableSum + splitGroups; }
+
+    @Override
+    public String toString() {
+        return String.format("%d guests at %d tables, %.3f groups/table, %d split groups, fill variance %.3f, "
+                + "%d violations", seatedGuests, occupiedTables, getGroupsPerTable(), splitGroups, fillVariance,
+                constraintViolations);
+    }
+}
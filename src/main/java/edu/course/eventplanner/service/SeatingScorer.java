@@ -0,0 +1,149 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.SeatingConstraint;
+import java.util.*;
+
+/**
+ * Scores a seating plan so that strategies can be compared: distinct
+ * groups per table, groups split over tables, how evenly tables are
+ * filled, and broken {@link SeatingConstraint}s. Guests are visited once,
+ * table by table, so a score costs O(n) for n seated guests plus O(c) for c
+ * constraints. Guests with a null group tag count as one group, as in
+ * {@link SeatingPlanner}.
+ */
+public final class SeatingScorer {
+    private SeatingScorer() {
+    }
+
+    public static SeatingScore score(SeatingPlan plan) {
+        return score(plan, List.of());
+    }
+
+    public static SeatingScore score(SeatingPlan plan, Collection<SeatingConstraint> constraints) {
+        Pass pass = new Pass(plan.getSeatedCount(), constraints);
+        for (int table = 1; table <= plan.getTableCount(); table++) {
+            pass.startTable();
+            for (int p = plan.tableStart(table); p < plan.tableEnd(table); p++) {
+                pass.add(plan.guestAt(p));
+            }
+        }
+        return pass.finish();
+    }
+
+    public static SeatingScore score(MultiVenuePlan plan) {
+        return score(plan.getMergedPlan(), List.of());
+    }
+
+    public static SeatingScore score(MultiVenuePlan plan, Collection<SeatingConstraint> constraints) {
+        return score(plan.getMergedPlan(), constraints);
+    }
+
+    /** Scores a plan in the form {@link SeatingPlanner#generateSeating} returns. */
+    public static SeatingScore score(Map<Integer, List<Guest>> seating) {
+        return score(seating, List.of());
+    }
+
+    public static SeatingScore score(Map<Integer, List<Guest>> seating, Collection<SeatingConstraint> constraints) {
+        int guests = 0;
+        for (List<Guest> table : seating.values()) {
+            guests += table.size();
+        }
+        Pass pass = new Pass(guests, constraints);
+        for (List<Guest> table : seating.values()) {
+            pass.startTable();
+            for (Guest guest : table) {
+                pass.add(guest);
+            }
+        }
+        return pass.finish();
+    }
+
+    private static final class Pass {
+        private final Collection<SeatingConstraint> constraints;
+        private final Map<String, Integer> groupIds;
+        // Tables are numbered as they are visited. Per group: the last table it was seen at, and how many tables.
+        private int[] lastTable;
+        private int[] tablesOfGroup;
+        private final Map<String, Integer> tableByName;
+        private int table = -1;
+        private int atTable;
+        private int seated;
+        private int occupied;
+        private long groupTableSum;
+        private long fillSum;
+        private long fillSquares;
+
+        Pass(int guests, Collection<SeatingConstraint> constraints) {
+            this.constraints = constraints;
+            groupIds = HashMap.newHashMap(Math.min(guests, 1 << 16));
+            lastTable = new int[16];
+            tablesOfGroup = new int[16];
+            tableByName = constraints.isEmpty() ? null : HashMap.newHashMap(guests);
+        }
+
+        void startTable() {
+            endTable();
+            table++;
+            atTable = 0;
+        }
+
+        void add(Guest guest) {
+            atTable++;
+            seated++;
+            Integer id = groupIds.get(guest.getGroupTag());
+            if (id == null) {
+                id = groupIds.size();
+                groupIds.put(guest.getGroupTag(), id);
+                if (id == lastTable.length) {
+                    lastTable = Arrays.copyOf(lastTable, id * 2);
+                    tablesOfGroup = Arrays.copyOf(tablesOfGroup, id * 2);
+                }
+                lastTable[id] = -1;
+            }
+            if (lastTable[id] != table) {
+                lastTable[id] = table;
+                tablesOfGroup[id]++;
+                groupTableSum++;
+            }
+            if (tableByName != null) {
+                tableByName.put(guest.getName(), table);
+            }
+        }
+
+        private void endTable() {
+            if (atTable > 0) {
+                occupied++;
+                fillSum += atTable;
+                fillSquares += (long) atTable * atTable;
+            }
+        }
+
+        SeatingScore finish() {
+            endTable();
+            int splitGroups = 0;
+            for (int g = 0; g < groupIds.size(); g++) {
+                if (tablesOfGroup[g] > 1) {
+                    splitGroups++;
+                }
+            }
+            double variance = 0;
+            if (occupied > 0) {
+                double mean = (double) fillSum / occupied;
+                variance = Math.max(0, (double) fillSquares / occupied - mean * mean);
+            }
+            int violations = 0;
+            if (tableByName != null) {
+                for (SeatingConstraint rule : constraints) {
+                    Integer first = tableByName.get(rule.getFirst());
+                    Integer second = tableByName.get(rule.getSecond());
+                    if (first != null && second != null
+                            && first.equals(second) != (rule.getKind() == SeatingConstraint.Kind.TOGETHER)) {
+                        violations++;
+                    }
+                }
+            }
+            return new SeatingScore(seated, occupied, groupTableSum, splitGroups, variance, violations);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package edu.course.eventplanner.service;
+
+import java.util.*;
+
+/**
+ * Tables bucketed by free seats: one intrusive doubly linked list of tables
+ * per free count, plus a bitset of non-empty counts, so the best fit and the
+ * emptiest table are a {@code nextSetBit}/{@code previousSetBit} away and
+ * changing a table's free seats is O(1).
+ */
+final class TableLevels {
+    private final int seatsPerTable;
+    private final int[] free;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] head;
+    private final BitSet nonEmpty;
+
+    /** All tables start empty; lower-numbered tables are picked first among equals. */
+    TableLevels(int tables, int seatsPerTable) {
+        this.seatsPerTable = seatsPerTable;
+        free = new int[tables];
+        next = new int[tables];
+        prev = new int[tables];
+        head = new int[seatsPerTable + 1];
+        Arrays.fill(head, -1);
+        nonEmpty = new BitSet(seatsPerTable + 1);
+        for (int table = tables - 1; table >= 0; table--) {
+            link(table, seatsPerTable);
+        }
+    }
+
+    int free(int table) { return free[table]; }
+
+    /** The table with the fewest free seats that still has {@code seats} free, or -1. */
+    int bestFit(int seats) {
+        int level = seats <= seatsPerTable ? nonEmpty.nextSetBit(Math.max(seats, 1)) : -1;
+        return level < 0 ? -1 : head[level];
+    }
+
+    /** Like {@link #bestFit(int)}, passing over the tables set in {@code excluded}. */
+    int bestFit(int seats, BitSet excluded) {
+        int level = seats <= seatsPerTable ? nonEmpty.nextSetBit(Math.max(seats, 1)) : -1;
+        for (; level >= 0; level = nonEmpty.nextSetBit(level + 1)) {
+            for (int table = head[level]; table >= 0; table = next[table]) {
+                if (!excluded.get(table)) {
+                    return table;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /** The table with the most free seats, or -1 when every table is full. */
+    int emptiest() {
+        int level = nonEmpty.previousSetBit(seatsPerTable);
+        return level <= 0 ? -1 : head[level];
+    }
+
+    /** Takes {@code seats} seats at a table; a negative count gives seats back. */
+    void occupy(int table, int seats) {
+        unlink(table);
+        link(table, free[table] - seats);
+    }
+
+    private void link(int table, int level) {
+        free[table] = level;
+        prev[table] = -1;
+        next[table] = head[level];
+        if (head[level] >= 0) {
+            prev[head[level]] = table;
+        }
+        head[level] = table;
+        nonEmpty.set(level);
+    }
+
+    private void unlink(int table) {
+        int level = free[table];
+        if (prev[table] >= 0) {
+            next[prev[table]] = next[table];
+        } else {
+            head[level] = next[table];
+            if (head[level] < 0) {
+                nonEmpty.clear(level);
+            }
+        }
+        if (next[table] >= 0) {
+            prev[next[table]] = prev[table];
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package edu.course.eventplanner.service;
 
+import edu.course.eventplanner.metrics.Operation;
+import edu.course.eventplanner.metrics.ServiceMetrics;
 import edu.course.eventplanner.model.Task;
 import java.util.*;
 
 public class TaskManager {
-    private final Queue<Task> upcoming = new LinkedList<>();
-    private final Stack<Task> completed = new Stack<>();
-    public void addTask(Task task) { /* TODO */ }
-    public Task executeNextTask() { return null; }
-    public Task undoLastTask() { return null; }
+    private final Queue<Task> upcoming = new ArrayDeque<>();
+    private final Deque<Task> completed = new ArrayDeque<>();
+
+    public void addTask(Task task) {
+        if (task != null) {
+            upcoming.offer(task);
+        }
+    }
+
+    /** Runs the oldest pending task and remembers it for undo; null when nothing is pending. */
+    public Task executeNextTask() {
+        long start = ServiceMetrics.start();
+        Task task = upcoming.poll();
+        if (task != null) {
+            completed.push(task);
+        }
+        ServiceMetrics.stop(Operation.EXECUTE_NEXT_TASK, start);
+        return task;
+    }
+
+    /** Takes back the most recently executed task; it is not queued again. */
+    public Task undoLastTask() { return completed.poll(); }
+
     public int remainingTaskCount() { return upcoming.size(); }
 }
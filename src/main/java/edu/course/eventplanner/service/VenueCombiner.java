@@ -0,0 +1,226 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.metrics.Operation;
+import edu.course.eventplanner.metrics.ServiceMetrics;
+import edu.course.eventplanner.model.Venue;
+import java.util.*;
+
+/**
+ * Picks the cheapest set of venues whose capacities add up to a guest count
+ * within a budget, for events no single venue can hold. Each venue is used
+ * at most once.
+ *
+ * <p>The search is a knapsack over capacity, capped at the guest count,
+ * that keeps only a Pareto front of partial sets: a set is dropped when
+ * another one holds at least as many guests for no more money. Venues are
+ * tried best value first (cost per seat), and a partial set is also
+ * dropped when even filling the rest at the best remaining cost per seat
+ * could not beat the cheapest full set found so far, or would break the
+ * budget. Before the search, a venue that holds everyone on its own stands
+ * in for all such venues, and of the smaller venues of one capacity only
+ * as many of the cheapest are kept as it takes to hold everyone.
+ */
+public class VenueCombiner {
+    // Relative slack taken off the pruning bound, far above its rounding error.
+    private static final double BOUND_SLACK = 1e-9;
+
+    // Sorted by capacity, then cost; equal ones keep list order.
+    private final Venue[] venues;
+    private final int[] capacity;
+    private final double[] cost;
+
+    public VenueCombiner(List<Venue> venues) {
+        Integer[] order = new Integer[venues.size()];
+        for (int i = 0; i < order.length; i++) {
+            if (venues.get(i).getCost() < 0) {
+                throw new IllegalArgumentException("Venue costs must not be negative");
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> venues.get(i).getCapacity())
+                .thenComparingDouble(i -> venues.get(i).getCost()));
+        this.venues = new Venue[order.length];
+        capacity = new int[order.length];
+        cost = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            Venue venue = venues.get(order[i]);
+            this.venues[i] = venue;
+            capacity[i] = venue.getCapacity();
+            cost[i] = venue.getCost();
+        }
+    }
+
+    /**
+     * Returns the cheapest set of venues within {@code budget} that together
+     * hold {@code guestCount} guests, in order of capacity, or null when no
+     * set does. When one venue is enough and nothing cheaper exists, the set
+     * is that venue alone, the one {@link VenueSelector#selectVenue} picks.
+     */
+    public List<Venue> cheapestCombination(double budget, int guestCount) {
+        long start = ServiceMetrics.start();
+        List<Venue> best = new Search(Math.max(guestCount, 0), budget).run();
+        ServiceMetrics.stop(Operation.SELECT_COMBINATION, start);
+        return best;
+    }
+
+    /** One query's search state. */
+    private final class Search {
+        private final int need;
+        private final double budget;
+        // Candidate venues (indexes into venues), best value first.
+        private int[] item;
+        private int items;
+        // Lowest cost per seat, and total capacity, of items[j..].
+        private double[] minRatioFrom;
+        private long[] capacityFrom;
+        // Cheapest full set so far: a single venue, or a chain of taken items.
+        private double limit = Double.POSITIVE_INFINITY;
+        private int single = -1;
+        private int bestNode = -1;
+        // Taken-item chains shared between partial sets: node -> (item, previous node).
+        private int[] nodeItem = new int[1024];
+        private int[] nodeParent = new int[1024];
+        private int nodes;
+
+        Search(int need, double budget) {
+            this.need = need;
+            this.budget = budget;
+        }
+
+        List<Venue> run() {
+            int firstHolding = firstHolding();
+            for (int i = firstHolding; i < venues.length; i++) {
+                if (cost[i] <= budget && cost[i] < limit) {
+                    limit = cost[i];
+                    single = i;
+                }
+            }
+            collectItems(firstHolding);
+            knapsack();
+            if (bestNode >= 0) {
+                List<Venue> chosen = new ArrayList<>();
+                for (int node = bestNode; node >= 0; node = nodeParent[node]) {
+                    chosen.add(venues[item[nodeItem[node]]]);
+                }
+                chosen.sort(Comparator.comparingInt(Venue::getCapacity));
+                return chosen;
+            }
+            return single >= 0 ? List.of(venues[single]) : null;
+        }
+
+        private int firstHolding() {
+            int low = 0;
+            int high = venues.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (capacity[mid] < need) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Venues too small on their own: the cheapest ceil(need / capacity) of each capacity.
+        private void collectItems(int end) {
+            item = new int[end];
+            for (int i = 0, group = 0; i < end; i++) {
+                if (i > 0 && capacity[i] != capacity[i - 1]) {
+                    group = i;
+                }
+                if (capacity[i] > 0 && i - group < (need + capacity[i] - 1) / capacity[i]) {
+                    item[items++] = i;
+                }
+            }
+            Integer[] order = new Integer[items];
+            for (int k = 0; k < items; k++) {
+                order[k] = item[k];
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> cost[i] / capacity[i]));
+            for (int k = 0; k < items; k++) {
+                item[k] = order[k];
+            }
+            minRatioFrom = new double[items + 1];
+            capacityFrom = new long[items + 1];
+            minRatioFrom[items] = Double.POSITIVE_INFINITY;
+            for (int k = items - 1; k >= 0; k--) {
+                minRatioFrom[k] = Math.min(minRatioFrom[k + 1], cost[item[k]] / capacity[item[k]]);
+                capacityFrom[k] = capacityFrom[k + 1] + capacity[item[k]];
+            }
+        }
+
+        // Whether a partial set holding seats for cost, completed from items[from..], could beat limit.
+        private boolean promising(int seats, double spent, int from) {
+            int missing = need - seats;
+            // Rounding can lift the bound past a set costing exactly budget or limit; stay below the true value.
+            double bound = (spent + missing * minRatioFrom[from]) * (1 - BOUND_SLACK);
+            return capacityFrom[from] >= missing && bound <= budget && bound < limit;
+        }
+
+        private void knapsack() {
+            // The front, largest capacity first, so cost strictly falls along it.
+            // Each step reads one set of arrays and writes the other.
+            int[] seats = new int[16];
+            double[] spent = new double[16];
+            int[] chain = new int[16];
+            int[] nextSeats = new int[16];
+            double[] nextSpent = new double[16];
+            int[] nextChain = new int[16];
+            chain[0] = -1;
+            int size = need > 0 && promising(0, 0, 0) ? 1 : 0;
+            for (int k = 0; k < items && size > 0; k++) {
+                int add = capacity[item[k]];
+                double price = cost[item[k]];
+                if (nextSeats.length < 2 * size) {
+                    nextSeats = new int[4 * size];
+                    nextSpent = new double[4 * size];
+                    nextChain = new int[4 * size];
+                }
+                int next = 0;
+                // Merge the sets without item k and with it, largest first, keeping each only if
+                // it is cheaper than every larger set kept before it.
+                double cheapest = Double.POSITIVE_INFINITY;
+                int without = 0;
+                int with = 0;
+                while (without < size || with < size) {
+                    boolean take = without == size || with < size && seats[with] + add > seats[without];
+                    int s = take ? seats[with] + add : seats[without];
+                    double c = take ? spent[with] + price : spent[without];
+                    int parent = take ? chain[with++] : chain[without++];
+                    if (take && s >= need) {
+                        if (c <= budget && c < limit) {
+                            limit = c;
+                            bestNode = node(k, parent);
+                        }
+                    } else if (c < cheapest && promising(s, c, k + 1)) {
+                        cheapest = c;
+                        nextSeats[next] = s;
+                        nextSpent[next] = c;
+                        nextChain[next++] = take ? node(k, parent) : parent;
+                    }
+                }
+                int[] swapSeats = seats;
+                double[] swapSpent = spent;
+                int[] swapChain = chain;
+                seats = nextSeats;
+                spent = nextSpent;
+                chain = nextChain;
+                nextSeats = swapSeats;
+                nextSpent = swapSpent;
+                nextChain = swapChain;
+                size = next;
+            }
+        }
+
+        private int node(int k, int parent) {
+            if (nodes == nodeItem.length) {
+                nodeItem = Arrays.copyOf(nodeItem, nodes * 2);
+                nodeParent = Arrays.copyOf(nodeParent, nodes * 2);
+            }
+            nodeItem[nodes] = k;
+            nodeParent[nodes] = parent;
+            return nodes++;
+        }
+    }
+}
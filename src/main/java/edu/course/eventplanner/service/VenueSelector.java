@@ -1,10 +1,284 @@
 package edu.course.eventplanner.service;
 
+import edu.course.eventplanner.metrics.Operation;
+import edu.course.eventplanner.metrics.ServiceMetrics;
 import edu.course.eventplanner.model.Venue;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+/**
+ * Picks venues from a catalog reduced to its cost/capacity skyline. A
+ * venue is dominated when another one is cheaper and at least as large;
+ * {@link #selectVenue} can never pick a dominated venue, so only the others
+ * (the Pareto front) are searched. Ordered by capacity, the front's costs
+ * never go down, so the first front venue holding {@code guestCount} guests
+ * is the cheapest venue that does: a query is one binary search over arrays
+ * of the front, O(log f) with no allocation.
+ *
+ * <p>The catalog can change through {@link #addVenue} and
+ * {@link #removeVenue}. All venues are kept grouped by capacity, so that a
+ * removal from the front can bring back the venues it was hiding. An update
+ * costs O(log n) plus the venues it brings back or hides, plus copying the
+ * front into fresh arrays. Updates must not run concurrently with each
+ * other; queries may run alongside them and see the front before or after.
+ *
+ * <p>{@link #selectVenues} answers a batch of queries against one snapshot
+ * of the front by sweeping it in order of guest count instead of searching
+ * it once per query.
+ */
 public class VenueSelector {
-    private final List<Venue> venues;
-    public VenueSelector(List<Venue> venues) { this.venues = venues; }
-    public Venue selectVenue(double budget, int guestCount) { return null; }
+    /** A venue with its place in the catalog. */
+    private static final class Slot {
+        final Venue venue;
+        final int capacity;
+        final double cost;
+        // Order of arrival, to break exact ties in favour of the earlier venue.
+        final long seq;
+        Slot(Venue venue, long seq) {
+            this.venue = venue;
+            capacity = venue.getCapacity();
+            cost = venue.getCost();
+            this.seq = seq;
+        }
+    }
+
+    // Smallest batch slice worth handing to another core.
+    private static final int PARALLEL_SLICE = 1 << 15;
+
+    private static final Comparator<Slot> CHEAPEST_FIRST =
+            Comparator.<Slot>comparingDouble(s -> s.cost).thenComparingLong(s -> s.seq);
+
+    /** The front in capacity order, as parallel arrays; replaced whole on every update. */
+    private static final class Front {
+        final int[] capacity;
+        final double[] cost;
+        final Venue[] venues;
+        Front(Collection<Slot> slots) {
+            capacity = new int[slots.size()];
+            cost = new double[slots.size()];
+            venues = new Venue[slots.size()];
+            int i = 0;
+            for (Slot slot : slots) {
+                capacity[i] = slot.capacity;
+                cost[i] = slot.cost;
+                venues[i++] = slot.venue;
+            }
+        }
+    }
+
+    // Every venue, grouped by capacity and cheapest first within a group.
+    private final TreeMap<Integer, TreeSet<Slot>> byCapacity = new TreeMap<>();
+    private final Map<Venue, Slot> slots = new HashMap<>();
+    // The best venue of every capacity group that no larger group undercuts.
+    private final TreeMap<Integer, Slot> skyline = new TreeMap<>();
+    private volatile Front front;
+    private long nextSeq;
+
+    /** Builds the skyline in O(n log n). Later changes to the list passed in are not seen. */
+    public VenueSelector(List<Venue> venues) {
+        for (Venue venue : venues) {
+            if (slots.containsKey(venue)) {
+                continue;
+            }
+            Slot slot = new Slot(venue, nextSeq++);
+            slots.put(venue, slot);
+            byCapacity.computeIfAbsent(slot.capacity, c -> new TreeSet<>(CHEAPEST_FIRST)).add(slot);
+        }
+        // Largest first: a group's best venue is on the front unless a larger group is cheaper.
+        double cheapestLarger = Double.POSITIVE_INFINITY;
+        for (TreeSet<Slot> group : byCapacity.descendingMap().values()) {
+            Slot best = group.first();
+            if (best.cost <= cheapestLarger) {
+                skyline.put(best.capacity, best);
+                cheapestLarger = best.cost;
+            }
+        }
+        front = new Front(skyline.values());
+    }
+
+    /**
+     * Returns the cheapest venue within {@code budget} that holds
+     * {@code guestCount} guests, preferring the smaller venue on equal cost,
+     * or null when none fits.
+     */
+    public Venue selectVenue(double budget, int guestCount) {
+        long start = ServiceMetrics.start();
+        Front f = front;
+        int low = 0;
+        int high = f.capacity.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (f.capacity[mid] < guestCount) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        Venue best = low < f.venues.length && !(f.cost[low] > budget) ? f.venues[low] : null;
+        ServiceMetrics.stop(Operation.SELECT_VENUE, start);
+        return best;
+    }
+
+    /** {@link #selectVenues(double[], int[], Venue[], boolean)} on the calling thread. */
+    public void selectVenues(double[] budgets, int[] guestCounts, Venue[] out) {
+        selectVenues(budgets, guestCounts, out, false);
+    }
+
+    /**
+     * Answers {@code selectVenue(budgets[i], guestCounts[i])} into
+     * {@code out[i]} for every i. All answers come from the same front, even
+     * if the catalog changes meanwhile.
+     *
+     * <p>One sweep over the front lists, for every guest count up to the
+     * largest capacity, the first front venue holding it; each query is then
+     * two array reads. When the largest capacity is far above the batch size,
+     * the queries are sorted by guest count instead and answered in one
+     * merge-like sweep alongside the front. With {@code parallel}, large
+     * batches are split into slices answered on the common fork-join pool.
+     */
+    public void selectVenues(double[] budgets, int[] guestCounts, Venue[] out, boolean parallel) {
+        if (budgets.length != guestCounts.length || out.length < budgets.length) {
+            throw new IllegalArgumentException("Need one budget, guest count and result slot per query");
+        }
+        long start = ServiceMetrics.start();
+        Front f = front;
+        int n = budgets.length;
+        int maxCapacity = f.capacity.length == 0 ? -1 : f.capacity[f.capacity.length - 1];
+        int[] firstHolding = null;
+        if (maxCapacity >= 0 && maxCapacity < 2L * n) {
+            firstHolding = new int[maxCapacity + 1];
+            for (int g = 0, p = 0; g <= maxCapacity; g++) {
+                while (f.capacity[p] < g) {
+                    p++;
+                }
+                firstHolding[g] = p;
+            }
+        }
+        int slices = parallel ? Math.min(ForkJoinPool.getCommonPoolParallelism(), n / PARALLEL_SLICE) : 1;
+        if (slices <= 1) {
+            answer(f, firstHolding, budgets, guestCounts, out, 0, n);
+        } else {
+            int[] table = firstHolding;
+            List<Callable<Void>> work = new ArrayList<>(slices);
+            for (int s = 0; s < slices; s++) {
+                int from = (int) ((long) n * s / slices);
+                int to = (int) ((long) n * (s + 1) / slices);
+                work.add(() -> {
+                    answer(f, table, budgets, guestCounts, out, from, to);
+                    return null;
+                });
+            }
+            for (var slice : ForkJoinPool.commonPool().invokeAll(work)) {
+                if (slice.state() == Future.State.FAILED) {
+                    throw new IllegalStateException("Answering a batch slice failed", slice.exceptionNow());
+                }
+            }
+        }
+        ServiceMetrics.stop(Operation.SELECT_VENUES, start);
+    }
+
+    // Answers queries [from, to), through firstHolding if given, else by sorting them.
+    private static void answer(Front f, int[] firstHolding, double[] budgets, int[] guestCounts,
+            Venue[] out, int from, int to) {
+        int size = f.capacity.length;
+        if (firstHolding != null) {
+            int maxCapacity = firstHolding.length - 1;
+            for (int i = from; i < to; i++) {
+                int g = guestCounts[i];
+                int p = g > maxCapacity ? size : firstHolding[Math.max(g, 0)];
+                out[i] = p < size && !(f.cost[p] > budgets[i]) ? f.venues[p] : null;
+            }
+            return;
+        }
+        if (size == 0) {
+            Arrays.fill(out, from, to, null);
+            return;
+        }
+        long[] order = new long[to - from];
+        for (int i = from; i < to; i++) {
+            order[i - from] = (long) guestCounts[i] << 32 | i;
+        }
+        Arrays.sort(order);
+        int p = 0;
+        for (long key : order) {
+            int g = (int) (key >> 32);
+            int i = (int) key;
+            while (p < size && f.capacity[p] < g) {
+                p++;
+            }
+            out[i] = p < size && !(f.cost[p] > budgets[i]) ? f.venues[p] : null;
+        }
+    }
+
+    /** Adds a venue to the catalog; returns false if it is already there. */
+    public boolean addVenue(Venue venue) {
+        if (slots.containsKey(venue)) {
+            return false;
+        }
+        Slot slot = new Slot(venue, nextSeq++);
+        slots.put(venue, slot);
+        TreeSet<Slot> group = byCapacity.computeIfAbsent(slot.capacity, c -> new TreeSet<>(CHEAPEST_FIRST));
+        group.add(slot);
+        if (group.first() == slot && slot.cost <= cheapestAbove(slot.capacity)) {
+            skyline.put(slot.capacity, slot);
+            // Smaller front venues that cost more are now dominated.
+            for (Map.Entry<Integer, Slot> lower = skyline.lowerEntry(slot.capacity);
+                    lower != null && lower.getValue().cost > slot.cost;
+                    lower = skyline.lowerEntry(lower.getKey())) {
+                skyline.remove(lower.getKey());
+            }
+            front = new Front(skyline.values());
+        }
+        return true;
+    }
+
+    /** Removes a venue from the catalog; returns false if it is not there. */
+    public boolean removeVenue(Venue venue) {
+        Slot slot = slots.remove(venue);
+        if (slot == null) {
+            return false;
+        }
+        TreeSet<Slot> group = byCapacity.get(slot.capacity);
+        group.remove(slot);
+        if (group.isEmpty()) {
+            byCapacity.remove(slot.capacity);
+        }
+        if (skyline.get(slot.capacity) != slot) {
+            // Either not the group's best, or the group was dominated anyway: the front is unchanged.
+            return true;
+        }
+        skyline.remove(slot.capacity);
+        // Re-run the largest-first sweep over the groups the removed venue may have been hiding.
+        Integer lowerFront = skyline.lowerKey(slot.capacity);
+        double cheapestLarger = cheapestAbove(slot.capacity);
+        NavigableMap<Integer, TreeSet<Slot>> hidden = lowerFront == null
+                ? byCapacity.headMap(slot.capacity, true)
+                : byCapacity.subMap(lowerFront, false, slot.capacity, true);
+        for (TreeSet<Slot> hiddenGroup : hidden.descendingMap().values()) {
+            Slot best = hiddenGroup.first();
+            if (best.cost <= cheapestLarger) {
+                skyline.put(best.capacity, best);
+                cheapestLarger = best.cost;
+            }
+        }
+        front = new Front(skyline.values());
+        return true;
+    }
+
+    /** Venues in the catalog. */
+    public int getVenueCount() { return slots.size(); }
+
+    /** Venues on the front, the only ones {@link #selectVenue} searches. */
+    public int getSkylineSize() { return front.venues.length; }
+
+    /** The front in order of capacity; cost never decreases along it. */
+    public List<Venue> getSkyline() { return List.of(front.venues); }
+
+    // Lowest cost among larger groups: the next front venue up, as the front's costs never decrease.
+    private double cheapestAbove(int capacity) {
+        Map.Entry<Integer, Slot> higher = skyline.higherEntry(capacity);
+        return higher == null ? Double.POSITIVE_INFINITY : higher.getValue().cost;
+    }
 }
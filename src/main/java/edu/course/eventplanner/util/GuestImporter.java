@@ -0,0 +1,199 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Streams "name,groupTag" rows (comma or tab separated) from a file into a
+ * {@link GuestListManager}. Rows are read through a fixed-size buffer and
+ * applied in batches, so extra memory stays bounded by the batch size no
+ * matter how large the file is. Bad rows and duplicates are counted in the
+ * {@link ImportReport} instead of aborting the import.
+ */
+public class GuestImporter {
+    public static final int DEFAULT_BATCH_SIZE = 65_536;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_REPORTED_LINES = 100;
+    private static final int MAX_CACHED_TAGS = 256;
+
+    private final int batchSize;
+    // Group tags repeat a lot, so the decoded String is shared per distinct tag.
+    private final List<byte[]> tagBytes = new ArrayList<>();
+    private final List<String> tagStrings = new ArrayList<>();
+
+    public GuestImporter() { this(DEFAULT_BATCH_SIZE); }
+
+    public GuestImporter(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport importGuests(Path file, GuestListManager manager) throws IOException {
+        ImportReport report = new ImportReport(MAX_REPORTED_LINES);
+        List<Guest> batch = new ArrayList<>(batchSize);
+        Set<String> batchNames = new HashSet<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            long lineNumber = 0;
+            long bytesConsumed = 0;
+            boolean skippingLongLine = false;
+            boolean presized = false;
+
+            while (true) {
+                int read = channel.read(buffer);
+                boolean eof = read < 0;
+                int limit = buffer.position();
+                int lineStart = 0;
+
+                for (int i = 0; i < limit; i++) {
+                    if (bytes[i] != '\n') {
+                        continue;
+                    }
+                    lineNumber++;
+                    if (skippingLongLine) {
+                        skippingLongLine = false;
+                    } else {
+                        parseRow(bytes, lineStart, i, lineNumber, manager, batch, batchNames, report);
+                    }
+                    lineStart = i + 1;
+                    if (batch.size() >= batchSize) {
+                        if (!presized) {
+                            // Estimate the total row count from the bytes per row seen so far.
+                            long consumed = bytesConsumed + lineStart;
+                            long estimate = fileSize * lineNumber / Math.max(1, consumed);
+                            manager.ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8,
+                                    manager.getGuestCount() + estimate));
+                            presized = true;
+                        }
+                        flush(manager, batch, batchNames, report);
+                    }
+                }
+
+                if (eof) {
+                    if (lineStart < limit && !skippingLongLine) {
+                        parseRow(bytes, lineStart, limit, ++lineNumber, manager, batch, batchNames, report);
+                    }
+                    break;
+                }
+                if (lineStart == 0 && limit == bytes.length) {
+                    // A single row longer than the buffer: reject it and skip to the next newline.
+                    if (!skippingLongLine) {
+                        report.reject(lineNumber + 1);
+                        skippingLongLine = true;
+                    }
+                    bytesConsumed += limit;
+                    buffer.clear();
+                    continue;
+                }
+                bytesConsumed += lineStart;
+                buffer.position(lineStart);
+                buffer.limit(limit);
+                buffer.compact();
+            }
+        }
+        flush(manager, batch, batchNames, report);
+        return report;
+    }
+
+    private void parseRow(byte[] bytes, int start, int end, long lineNumber, GuestListManager manager,
+                          List<Guest> batch, Set<String> batchNames, ImportReport report) {
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        if (lineNumber == 1 && start == 0 && end - start >= 3 && bytes[0] == (byte) 0xEF
+                && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+            start += 3;
+        }
+        if (isBlank(bytes, start, end)) {
+            return;
+        }
+        int separator = -1;
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == '\t') {
+                separator = i;
+                break;
+            }
+            if (bytes[i] == ',' && separator < 0) {
+                separator = i;
+            }
+        }
+        if (separator < 0) {
+            report.reject(lineNumber);
+            return;
+        }
+        int nameStart = skipSpaces(bytes, start, separator);
+        int nameEnd = trimSpaces(bytes, nameStart, separator);
+        if (nameStart == nameEnd) {
+            report.reject(lineNumber);
+            return;
+        }
+        int tagStart = skipSpaces(bytes, separator + 1, end);
+        int tagEnd = trimSpaces(bytes, tagStart, end);
+
+        String name = new String(bytes, nameStart, nameEnd - nameStart, StandardCharsets.UTF_8);
+        if (lineNumber == 1 && name.equalsIgnoreCase("name")) {
+            return;
+        }
+        if (manager.findGuest(name) != null || !batchNames.add(name)) {
+            report.duplicate();
+            return;
+        }
+        batch.add(new Guest(name, tag(bytes, tagStart, tagEnd)));
+    }
+
+    private String tag(byte[] bytes, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < tagBytes.size(); i++) {
+            byte[] known = tagBytes.get(i);
+            if (known.length == length && Arrays.equals(known, 0, length, bytes, start, end)) {
+                return tagStrings.get(i);
+            }
+        }
+        String tag = new String(bytes, start, length, StandardCharsets.UTF_8);
+        if (tagBytes.size() < MAX_CACHED_TAGS) {
+            tagBytes.add(Arrays.copyOfRange(bytes, start, end));
+            tagStrings.add(tag);
+        }
+        return tag;
+    }
+
+    private static void flush(GuestListManager manager, List<Guest> batch, Set<String> batchNames,
+                              ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        report.imported(manager.addAll(batch));
+        batch.clear();
+        batchNames.clear();
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        return skipSpaces(bytes, start, end) == end;
+    }
+
+    private static int skipSpaces(byte[] bytes, int start, int end) {
+        while (start < end && (bytes[start] == ' ' || bytes[start] == '\t')) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimSpaces(byte[] bytes, int start, int end) {
+        while (end > start && (bytes[end - 1] == ' ' || bytes[end - 1] == '\t')) {
+            end--;
+        }
+        return end;
+    }
+}
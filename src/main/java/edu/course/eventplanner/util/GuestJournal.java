@@ -0,0 +1,388 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListListener;
+import edu.course.eventplanner.service.GuestListManager;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Optional write-ahead journal for a {@link GuestListManager}. Every add and
+ * remove is appended in a compact binary form; {@link #checkpoint()} writes a
+ * full snapshot and starts an empty journal, and {@link #open} rebuilds the
+ * guest list from the last snapshot plus the journal written after it.
+ *
+ * <p>Both files are sequences of checksummed frames. Journal records are
+ * buffered and written as one frame per group commit, so a single
+ * {@code force} covers many mutations. A journal frame that was only partly
+ * written before a crash fails its checksum and is cut off during recovery;
+ * everything before it is kept.
+ *
+ * <p>Each checkpoint starts a new generation. The snapshot header records
+ * the generation of the journal that follows it, and the journal header its
+ * own generation. A journal older than the snapshot was already folded into
+ * it, by a checkpoint that crashed before truncating the journal, and is
+ * discarded instead of replayed.
+ */
+public class GuestJournal implements GuestListListener, Closeable {
+    public static final int DEFAULT_GROUP_COMMIT_BYTES = 1 << 20;
+
+    static final String JOURNAL_FILE = "guests.journal";
+    static final String SNAPSHOT_FILE = "guests.snapshot";
+    private static final int JOURNAL_MAGIC = 0x474A4E4C;  // "GJNL"
+    private static final int SNAPSHOT_MAGIC = 0x47534E50; // "GSNP"
+    private static final byte OP_ADD = 1;
+    private static final byte OP_REMOVE = 2;
+    // Magic, guest count and generation.
+    private static final int SNAPSHOT_HEADER = 20;
+    // Magic and generation.
+    private static final int JOURNAL_HEADER = 12;
+    // Each frame starts with its body length and the body's CRC32C.
+    private static final int FRAME_HEADER = 8;
+    private static final int MAX_VARINT = 5;
+    private static final int RECOVERY_BATCH = 8192;
+
+    private final Path directory;
+    private final GuestListManager manager;
+    private final int groupCommitBytes;
+    private FileChannel journal;
+    private ByteBuffer pending;
+    private ByteBuffer readBuffer = ByteBuffer.allocate(0);
+    // Recovered guests share one String per distinct group tag.
+    private final Map<String, String> tagPool = new HashMap<>();
+    private long recordsInJournal;
+    // Generation of the current journal; the last snapshot holds everything older.
+    private long generation;
+
+    private GuestJournal(Path directory, GuestListManager manager, int groupCommitBytes) {
+        this.directory = directory;
+        this.manager = manager;
+        this.groupCommitBytes = groupCommitBytes;
+        this.pending = newFrameBuffer(groupCommitBytes);
+    }
+
+    public static GuestJournal open(Path directory, GuestListManager manager) throws IOException {
+        return open(directory, manager, DEFAULT_GROUP_COMMIT_BYTES);
+    }
+
+    /**
+     * Replays the snapshot and journal in {@code directory} (if any) into an
+     * empty {@code manager}, then journals the manager's future changes.
+     */
+    public static GuestJournal open(Path directory, GuestListManager manager, int groupCommitBytes)
+            throws IOException {
+        if (manager.getGuestCount() != 0) {
+            throw new IllegalArgumentException("Recovery needs an empty guest list");
+        }
+        if (groupCommitBytes < 64) {
+            throw new IllegalArgumentException("Group commit size must be at least 64 bytes");
+        }
+        Files.createDirectories(directory);
+        GuestJournal guestJournal = new GuestJournal(directory, manager, groupCommitBytes);
+        guestJournal.loadSnapshot();
+        guestJournal.replayJournal();
+        manager.addListener(guestJournal);
+        return guestJournal;
+    }
+
+    @Override
+    public void guestAdded(Guest guest) {
+        byte[] name = utf8(guest.getName());
+        byte[] tag = utf8(guest.getGroupTag());
+        ensureRoom(1 + recordSize(name, tag));
+        pending.put(OP_ADD);
+        putGuest(pending, name, tag);
+        recordsInJournal++;
+    }
+
+    @Override
+    public void guestRemoved(Guest guest) {
+        byte[] name = utf8(guest.getName());
+        ensureRoom(1 + MAX_VARINT + name.length);
+        pending.put(OP_REMOVE);
+        putVarInt(pending, name.length);
+        pending.put(name);
+        recordsInJournal++;
+    }
+
+    /** Writes buffered records as one frame and forces them to disk. */
+    public void commit() throws IOException {
+        if (pending.position() > FRAME_HEADER) {
+            writeFrame(journal, pending);
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Writes the whole guest list to a new snapshot file and truncates the
+     * journal. The snapshot is written to a temporary file and moved into
+     * place, so a crash before the move leaves the previous snapshot and
+     * journal in place. A crash after it leaves the new snapshot with the
+     * old journal, which recovery skips as an older generation.
+     */
+    public void checkpoint() throws IOException {
+        commit();
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        List<Guest> guests = manager.snapshot();
+        long next = generation + 1;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, ByteBuffer.allocate(SNAPSHOT_HEADER).putInt(SNAPSHOT_MAGIC).putLong(guests.size())
+                    .putLong(next).flip());
+            ByteBuffer frame = newFrameBuffer(groupCommitBytes);
+            for (Guest guest : guests) {
+                byte[] name = utf8(guest.getName());
+                byte[] tag = utf8(guest.getGroupTag());
+                int size = recordSize(name, tag);
+                if (frame.remaining() < size) {
+                    writeFrame(out, frame);
+                    if (frame.remaining() < size) {
+                        frame = newFrameBuffer(size);
+                    }
+                }
+                putGuest(frame, name, tag);
+            }
+            writeFrame(out, frame);
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        startJournal(next);
+    }
+
+    public long getRecordsInJournal() { return recordsInJournal; }
+
+    // Empties the journal and starts it at the given generation.
+    private void startJournal(long newGeneration) throws IOException {
+        journal.truncate(0);
+        journal.position(0);
+        writeFully(journal, ByteBuffer.allocate(JOURNAL_HEADER).putInt(JOURNAL_MAGIC).putLong(newGeneration).flip());
+        journal.force(true);
+        generation = newGeneration;
+        recordsInJournal = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        manager.removeListener(this);
+        try {
+            commit();
+        } finally {
+            journal.close();
+        }
+    }
+
+    private void ensureRoom(int bytes) {
+        if (pending.remaining() >= bytes) {
+            return;
+        }
+        try {
+            // Group commit: one write and one force for everything buffered so far.
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to guest journal", e);
+        }
+        if (pending.remaining() < bytes) {
+            pending = newFrameBuffer(bytes);
+        }
+    }
+
+    private void loadSnapshot() throws IOException {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER);
+            in.read(header, 0);
+            if (header.position() < SNAPSHOT_HEADER || header.getInt(0) != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a guest snapshot: " + file);
+            }
+            long expected = header.getLong(4);
+            generation = header.getLong(12);
+            manager.ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8, expected));
+            long position = SNAPSHOT_HEADER;
+            long loaded = 0;
+            List<Guest> batch = new ArrayList<>(RECOVERY_BATCH);
+            ByteBuffer frame;
+            while ((frame = readFrame(in, position)) != null) {
+                position += FRAME_HEADER + frame.remaining();
+                while (frame.hasRemaining()) {
+                    batch.add(getGuest(frame));
+                    if (batch.size() == RECOVERY_BATCH) {
+                        loaded += manager.addAll(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            loaded += manager.addAll(batch);
+            if (loaded != expected || position != in.size()) {
+                throw new IOException("Guest snapshot is damaged: " + file);
+            }
+        }
+    }
+
+    private void replayJournal() throws IOException {
+        journal = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (journal.size() < JOURNAL_HEADER) {
+            startJournal(generation);
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER);
+        readFully(journal, header, 0);
+        if (header.getInt(0) != JOURNAL_MAGIC) {
+            throw new IOException("Not a guest journal: " + directory.resolve(JOURNAL_FILE));
+        }
+        if (header.getLong(4) < generation) {
+            // Left behind by a checkpoint that crashed after publishing its snapshot.
+            startJournal(generation);
+            return;
+        }
+        generation = header.getLong(4);
+        long position = JOURNAL_HEADER;
+        List<Guest> adds = new ArrayList<>(RECOVERY_BATCH);
+        ByteBuffer frame;
+        while ((frame = readFrame(journal, position)) != null) {
+            position += FRAME_HEADER + frame.remaining();
+            while (frame.hasRemaining()) {
+                byte op = frame.get();
+                if (op == OP_ADD) {
+                    adds.add(getGuest(frame));
+                } else if (op == OP_REMOVE) {
+                    // A removal must see every add logged before it.
+                    manager.addAll(adds);
+                    adds.clear();
+                    manager.removeGuest(getString(frame));
+                } else {
+                    throw new IOException("Unknown journal operation " + op);
+                }
+                recordsInJournal++;
+            }
+            manager.addAll(adds);
+            adds.clear();
+        }
+        // Drop a torn frame at the tail so new frames follow the last good one.
+        journal.truncate(position);
+        journal.position(position);
+    }
+
+    // Returns the frame body, or null at end of file or at a torn or corrupt frame.
+    private ByteBuffer readFrame(FileChannel in, long position) throws IOException {
+        long size = in.size();
+        if (position + FRAME_HEADER > size) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER);
+        readFully(in, header, position);
+        int length = header.getInt(0);
+        if (length <= 0 || position + FRAME_HEADER + length > size) {
+            return null;
+        }
+        if (readBuffer.capacity() < length) {
+            readBuffer = ByteBuffer.allocate(Math.max(length, groupCommitBytes));
+        }
+        ByteBuffer body = readBuffer.clear().limit(length);
+        readFully(in, body, position + FRAME_HEADER);
+        body.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        return (int) crc.getValue() == header.getInt(4) ? body : null;
+    }
+
+    private static void writeFrame(FileChannel out, ByteBuffer frame) throws IOException {
+        int length = frame.position() - FRAME_HEADER;
+        if (length == 0) {
+            return;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(frame.duplicate().position(FRAME_HEADER).limit(frame.position()));
+        frame.putInt(0, length).putInt(4, (int) crc.getValue());
+        writeFully(out, frame.flip());
+        frame.clear().position(FRAME_HEADER);
+    }
+
+    private static ByteBuffer newFrameBuffer(int bodyBytes) {
+        return ByteBuffer.allocateDirect(FRAME_HEADER + bodyBytes).position(FRAME_HEADER);
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int recordSize(byte[] name, byte[] tag) {
+        return 2 * MAX_VARINT + name.length + (tag == null ? 0 : tag.length);
+    }
+
+    // A guest is its name, then its tag length plus one (zero meaning no tag), then the tag.
+    private static void putGuest(ByteBuffer buffer, byte[] name, byte[] tag) {
+        putVarInt(buffer, name.length);
+        buffer.put(name);
+        if (tag == null) {
+            putVarInt(buffer, 0);
+        } else {
+            putVarInt(buffer, tag.length + 1);
+            buffer.put(tag);
+        }
+    }
+
+    private Guest getGuest(ByteBuffer buffer) {
+        String name = getString(buffer);
+        int tagLength = getVarInt(buffer) - 1;
+        String tag = null;
+        if (tagLength >= 0) {
+            tag = tagPool.computeIfAbsent(new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    tagLength, StandardCharsets.UTF_8), t -> t);
+            buffer.position(buffer.position() + tagLength);
+        }
+        return new Guest(name, tag);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = getVarInt(buffer);
+        String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package edu.course.eventplanner.util;
+
+import java.util.*;
+
+public class ImportReport {
+    private final int maxReportedLines;
+    private final List<Long> rejectedLines = new ArrayList<>();
+    private long imported;
+    private long duplicates;
+    private long rejected;
+
+    ImportReport(int maxReportedLines) { this.maxReportedLines = maxReportedLines; }
+
+    void imported(int count) { imported += count; }
+    void duplicate() { duplicates++; }
+
+    void reject(long lineNumber) {
+        rejected++;
+        if (rejectedLines.size() < maxReportedLines) {
+            rejectedLines.add(lineNumber);
+        }
+    }
+
+    public long getImported() { return imported; }
+    public long getDuplicates() { return duplicates; }
+    public long getRejected() { return rejected; }
+    // Only the first rejected line numbers are kept so huge bad files stay cheap to report.
+    public List<Long> getRejectedLines() { return Collections.unmodifiableList(rejectedLines); }
+
+    @Override
+    public String toString() {
+        return "Imported " + imported + ", duplicates " + duplicates + ", rejected " + rejected;
+    }
+}
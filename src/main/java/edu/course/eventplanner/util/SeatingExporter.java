@@ -0,0 +1,240 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.SeatingPlan;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a {@link SeatingPlan} to CSV or JSON through one reusable
+ * {@link ByteBuffer}. Names and group tags are escaped and UTF-8 encoded a
+ * char at a time straight into the buffer, and numbers are written digit by
+ * digit, so exporting allocates no per-guest objects and uses the same
+ * memory for ten guests as for ten million. An exporter is not thread-safe;
+ * use one per thread.
+ *
+ * <p>CSV has a {@code table,name,group} header and one row per seated
+ * guest, quoted per RFC 4180 where needed; a null group is an empty field.
+ * JSON is {@code {"tables":[{"table":1,"guests":[{"name":"..","group":".."}]}]}}
+ * with one line per occupied table and a null group as {@code null}.
+ */
+public class SeatingExporter {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    // Longest output for one char: a six-byte JSON unicode escape.
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final byte[] CSV_HEADER = "table,name,group\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[10];
+    private WritableByteChannel out;
+    private long written;
+
+    public SeatingExporter() { this(DEFAULT_BUFFER_SIZE); }
+
+    public SeatingExporter(int bufferSize) {
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("Buffer must hold at least 64 bytes");
+        }
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /** Writes the plan as CSV, replacing the file. Returns the bytes written. */
+    public long writeCsv(SeatingPlan plan, Path file) throws IOException {
+        try (FileChannel channel = create(file)) {
+            return writeCsv(plan, channel);
+        }
+    }
+
+    /** Writes the plan as JSON, replacing the file. Returns the bytes written. */
+    public long writeJson(SeatingPlan plan, Path file) throws IOException {
+        try (FileChannel channel = create(file)) {
+            return writeJson(plan, channel);
+        }
+    }
+
+    public long writeCsv(SeatingPlan plan, WritableByteChannel channel) throws IOException {
+        start(channel);
+        put(CSV_HEADER);
+        for (int table = 1; table <= plan.getTableCount(); table++) {
+            for (int p = plan.tableStart(table); p < plan.tableEnd(table); p++) {
+                Guest guest = plan.guestAt(p);
+                putInt(table);
+                putByte(',');
+                putCsvField(guest.getName());
+                putByte(',');
+                putCsvField(guest.getGroupTag());
+                putByte('\n');
+            }
+        }
+        return finish();
+    }
+
+    public long writeJson(SeatingPlan plan, WritableByteChannel channel) throws IOException {
+        start(channel);
+        putAscii("{\"tables\":[");
+        boolean firstTable = true;
+        for (int table = 1; table <= plan.getTableCount(); table++) {
+            if (plan.tableSize(table) == 0) {
+                continue;
+            }
+            putAscii(firstTable ? "\n{\"table\":" : ",\n{\"table\":");
+            firstTable = false;
+            putInt(table);
+            putAscii(",\"guests\":[");
+            for (int p = plan.tableStart(table); p < plan.tableEnd(table); p++) {
+                Guest guest = plan.guestAt(p);
+                putAscii(p == plan.tableStart(table) ? "{\"name\":" : ",{\"name\":");
+                putJsonString(guest.getName());
+                putAscii(",\"group\":");
+                putJsonString(guest.getGroupTag());
+                putByte('}');
+            }
+            putAscii("]}");
+        }
+        putAscii("\n]}\n");
+        return finish();
+    }
+
+    private static FileChannel create(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void start(WritableByteChannel channel) {
+        out = channel;
+        written = 0;
+        buffer.clear();
+    }
+
+    private long finish() throws IOException {
+        flush();
+        out = null;
+        return written;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void putByte(int b) throws IOException {
+        ensure(1);
+        buffer.put((byte) b);
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        for (int i = 0; i < bytes.length; ) {
+            ensure(1);
+            int n = Math.min(bytes.length - i, buffer.remaining());
+            buffer.put(bytes, i, n);
+            i += n;
+        }
+    }
+
+    // For the short constant fragments of the formats, which are ASCII.
+    private void putAscii(String s) throws IOException {
+        ensure(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buffer.put((byte) s.charAt(i));
+        }
+    }
+
+    private void putInt(int value) throws IOException {
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        ensure(n);
+        while (n > 0) {
+            buffer.put(digits[--n]);
+        }
+    }
+
+    private void putCsvField(String s) throws IOException {
+        if (s == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            putByte('"');
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                putByte('"');
+            }
+            i = putChar(s, i);
+        }
+        if (quote) {
+            putByte('"');
+        }
+    }
+
+    private void putJsonString(String s) throws IOException {
+        if (s == null) {
+            putAscii("null");
+            return;
+        }
+        putByte('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                ensure(2);
+                buffer.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                ensure(MAX_CHAR_BYTES);
+                switch (c) {
+                    case '\n' -> buffer.put((byte) '\\').put((byte) 'n');
+                    case '\r' -> buffer.put((byte) '\\').put((byte) 'r');
+                    case '\t' -> buffer.put((byte) '\\').put((byte) 't');
+                    default -> buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                            .put(HEX[c >> 4]).put(HEX[c & 0xF]);
+                }
+            } else {
+                i = putChar(s, i);
+            }
+        }
+        putByte('"');
+    }
+
+    // UTF-8 encodes the char at i, or the surrogate pair starting there; returns the last index used.
+    private int putChar(String s, int i) throws IOException {
+        ensure(4);
+        char c = s.charAt(i);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+        } else if (!Character.isSurrogate(c)) {
+            buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            int cp = Character.toCodePoint(c, s.charAt(++i));
+            buffer.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                    .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+        } else {
+            // An unpaired surrogate has no UTF-8 form; write what String.getBytes would.
+            buffer.put((byte) '?');
+        }
+        return i;
+    }
+}
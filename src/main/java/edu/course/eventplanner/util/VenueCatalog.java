@@ -0,0 +1,361 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.VenueSelector;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+/**
+ * A venue catalog loaded from a file and served through a
+ * {@link VenueSelector}. The file is memory-mapped and parsed straight from
+ * the mapping: numbers are read byte by byte and the only String made per
+ * venue is its name. Two formats are read, told apart by the first bytes:
+ *
+ * <ul>
+ * <li>CSV rows of {@code name,cost,capacity,tables,seatsPerTable}, with an
+ * optional header row and names quoted per RFC 4180 where needed. Costs are
+ * plain decimals. Bad rows are counted in the {@link ImportReport} and
+ * skipped.</li>
+ * <li>Fixed-width binary, as written by {@link #writeBinary}: a header of
+ * magic, name width and venue count, then one record per venue of a
+ * zero-padded UTF-8 name, a double cost and three ints, big-endian. A file
+ * whose size does not match its header is rejected whole.</li>
+ * </ul>
+ *
+ * <p>{@link #reloadIfChanged} builds a new selector from an updated file
+ * and swaps it in with one volatile write. Queries never wait on a reload:
+ * those already running finish on the old selector, later ones use the new
+ * one, and a failed reload leaves the old one in place. Replace the file by
+ * renaming a new one over it rather than rewriting it in place, so that a
+ * reload never maps a half-written file.
+ */
+public class VenueCatalog {
+    private static final int BINARY_MAGIC = 0x56454E55; // "VENU"
+    // Magic, name width and venue count.
+    private static final int BINARY_HEADER = 12;
+    // Cost, capacity, tables and seats per table after the name.
+    private static final int BINARY_FIELDS = 20;
+    // Widest name whose record still fits in a file we can map (2 GB).
+    private static final int MAX_NAME_WIDTH = Integer.MAX_VALUE - BINARY_HEADER - BINARY_FIELDS;
+    private static final int MAX_REPORTED_LINES = 100;
+    // Costs whose digits make a larger number than this are handed to Double.parseDouble.
+    private static final long EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** What one load produced, swapped in as a unit. */
+    private record Loaded(VenueSelector selector, ImportReport report, FileTime modified, long size) {}
+
+    private final Path file;
+    private volatile Loaded current;
+
+    private VenueCatalog(Path file) {
+        this.file = file;
+    }
+
+    /** Loads the catalog in {@code file}. */
+    public static VenueCatalog open(Path file) throws IOException {
+        VenueCatalog catalog = new VenueCatalog(file);
+        catalog.reload();
+        return catalog;
+    }
+
+    /** The selector for the most recently loaded file. */
+    public VenueSelector getSelector() { return current.selector(); }
+
+    /** The report of the most recent successful load. */
+    public ImportReport getReport() { return current.report(); }
+
+    /** {@link VenueSelector#selectVenue} on the most recently loaded file. */
+    public Venue selectVenue(double budget, int guestCount) {
+        return current.selector().selectVenue(budget, guestCount);
+    }
+
+    /**
+     * Reloads the file if its size or modification time changed since the
+     * last load. Returns whether it did.
+     */
+    public synchronized boolean reloadIfChanged() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Loaded loaded = current;
+        if (attributes.size() == loaded.size() && attributes.lastModifiedTime().equals(loaded.modified())) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    /** Loads the file again and swaps the new selector in. */
+    public synchronized void reload() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        ImportReport report = new ImportReport(MAX_REPORTED_LINES);
+        List<Venue> venues;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Venue file is larger than 2 GB: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            venues = size >= BINARY_HEADER && buffer.getInt(0) == BINARY_MAGIC
+                    ? parseBinary(buffer, report)
+                    : new CsvParser(buffer, report).parse();
+        }
+        current = new Loaded(new VenueSelector(venues), report, attributes.lastModifiedTime(), attributes.size());
+    }
+
+    /**
+     * Writes venues in the binary format, replacing the file. Names are
+     * stored in {@code nameWidth} bytes of UTF-8; a longer name is rejected.
+     */
+    public static void writeBinary(List<Venue> venues, Path file, int nameWidth) throws IOException {
+        if (nameWidth <= 0 || nameWidth > MAX_NAME_WIDTH) {
+            throw new IllegalArgumentException("Name width must be between 1 and " + MAX_NAME_WIDTH);
+        }
+        int recordSize = nameWidth + BINARY_FIELDS;
+        ByteBuffer buffer = ByteBuffer.allocate(BINARY_HEADER + Math.max(1, (1 << 16) / recordSize) * recordSize);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(BINARY_MAGIC).putInt(nameWidth).putInt(venues.size());
+            for (Venue venue : venues) {
+                byte[] name = venue.getName().getBytes(StandardCharsets.UTF_8);
+                if (name.length > nameWidth) {
+                    throw new IllegalArgumentException("Name longer than " + nameWidth + " bytes: " + venue.getName());
+                }
+                if (buffer.remaining() < recordSize) {
+                    drain(out, buffer);
+                }
+                buffer.put(name);
+                for (int i = name.length; i < nameWidth; i++) {
+                    buffer.put((byte) 0);
+                }
+                buffer.putDouble(venue.getCost()).putInt(venue.getCapacity())
+                        .putInt(venue.getTables()).putInt(venue.getSeatsPerTable());
+            }
+            drain(out, buffer);
+        }
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private List<Venue> parseBinary(ByteBuffer buffer, ImportReport report) throws IOException {
+        int nameWidth = buffer.getInt(4);
+        int count = buffer.getInt(8);
+        // Both come straight from the file: check in long so a huge width cannot wrap around.
+        if (nameWidth <= 0 || nameWidth > MAX_NAME_WIDTH || count < 0
+                || buffer.limit() != BINARY_HEADER + (long) count * ((long) nameWidth + BINARY_FIELDS)) {
+            throw new IOException("Venue file is damaged: " + file);
+        }
+        List<Venue> venues = new ArrayList<>(count);
+        // An empty catalog keeps the width it was written with; only records need the buffer.
+        byte[] name = new byte[count == 0 ? 0 : nameWidth];
+        for (int i = 0, at = BINARY_HEADER; i < count; i++, at += nameWidth + BINARY_FIELDS) {
+            buffer.get(at, name);
+            int length = 0;
+            while (length < nameWidth && name[length] != 0) {
+                length++;
+            }
+            int fields = at + nameWidth;
+            venues.add(new Venue(new String(name, 0, length, StandardCharsets.UTF_8), buffer.getDouble(fields),
+                    buffer.getInt(fields + 8), buffer.getInt(fields + 12), buffer.getInt(fields + 16)));
+        }
+        report.imported(count);
+        return venues;
+    }
+
+    /** Reads CSV rows from a mapped file, one byte at a time. */
+    private static final class CsvParser {
+        private final ByteBuffer buffer;
+        private final ImportReport report;
+        private final int end;
+        // Holds the current name while it is unquoted and decoded.
+        private byte[] scratch = new byte[64];
+        private int nameLength;
+        private int at;
+        private int rowEnd;
+
+        CsvParser(ByteBuffer buffer, ImportReport report) {
+            this.buffer = buffer;
+            this.report = report;
+            end = buffer.limit();
+        }
+
+        List<Venue> parse() {
+            List<Venue> venues = new ArrayList<>();
+            at = end >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB
+                    && buffer.get(2) == (byte) 0xBF ? 3 : 0;
+            long lineNumber = 0;
+            while (at < end) {
+                lineNumber++;
+                rowEnd = at;
+                // A newline inside a quoted name does not end the row.
+                boolean quoted = false;
+                while (rowEnd < end && (quoted || buffer.get(rowEnd) != '\n')) {
+                    quoted ^= buffer.get(rowEnd) == '"';
+                    rowEnd++;
+                }
+                int next = rowEnd + 1;
+                if (rowEnd > at && buffer.get(rowEnd - 1) == '\r') {
+                    rowEnd--;
+                }
+                if (skipSpaces() < rowEnd) {
+                    Venue venue = parseRow();
+                    if (venue != null) {
+                        venues.add(venue);
+                    } else if (lineNumber != 1 || !isHeader()) {
+                        report.reject(lineNumber);
+                    }
+                }
+                at = next;
+            }
+            report.imported(venues.size());
+            return venues;
+        }
+
+        // Parses the row [at, rowEnd), or returns null if it is malformed.
+        private Venue parseRow() {
+            nameLength = parseName();
+            if (nameLength <= 0) {
+                return null;
+            }
+            double cost = parseCost();
+            int capacity = parseInt(false);
+            int tables = parseInt(false);
+            int seatsPerTable = parseInt(true);
+            if (Double.isNaN(cost) || capacity < 0 || tables < 0 || seatsPerTable < 0) {
+                return null;
+            }
+            return new Venue(new String(scratch, 0, nameLength, StandardCharsets.UTF_8), cost, capacity, tables,
+                    seatsPerTable);
+        }
+
+        // Whether the row just rejected starts with a "name" column heading.
+        private boolean isHeader() {
+            return nameLength == 4 && (scratch[0] | 0x20) == 'n' && (scratch[1] | 0x20) == 'a'
+                    && (scratch[2] | 0x20) == 'm' && (scratch[3] | 0x20) == 'e';
+        }
+
+        // Copies the trimmed, unquoted name into scratch and moves past its comma; returns its length.
+        private int parseName() {
+            int length = 0;
+            skipSpaces();
+            if (at < rowEnd && buffer.get(at) == '"') {
+                at++;
+                while (true) {
+                    if (at >= rowEnd) {
+                        return -1;
+                    }
+                    byte b = buffer.get(at++);
+                    if (b == '"') {
+                        if (at < rowEnd && buffer.get(at) == '"') {
+                            at++;
+                        } else {
+                            break;
+                        }
+                    }
+                    length = append(length, b);
+                }
+                skipSpaces();
+            } else {
+                int trimmed = 0;
+                while (at < rowEnd && buffer.get(at) != ',') {
+                    byte b = buffer.get(at++);
+                    length = append(length, b);
+                    if (b != ' ' && b != '\t') {
+                        trimmed = length;
+                    }
+                }
+                length = trimmed;
+            }
+            return comma() ? length : -1;
+        }
+
+        private int append(int length, byte b) {
+            if (length == scratch.length) {
+                scratch = Arrays.copyOf(scratch, length * 2);
+            }
+            scratch[length] = b;
+            return length + 1;
+        }
+
+        // A non-negative plain decimal and its comma, or NaN.
+        private double parseCost() {
+            skipSpaces();
+            int start = at;
+            long mantissa = 0;
+            int digits = 0;
+            int fraction = -1;
+            for (; at < rowEnd; at++) {
+                byte b = buffer.get(at);
+                if (b >= '0' && b <= '9') {
+                    mantissa = digits < 18 ? mantissa * 10 + (b - '0') : mantissa;
+                    digits++;
+                    if (fraction >= 0) {
+                        fraction++;
+                    }
+                } else if (b == '.' && fraction < 0) {
+                    fraction = 0;
+                } else {
+                    break;
+                }
+            }
+            double cost;
+            if (digits == 0) {
+                return Double.NaN;
+            } else if (digits <= 18 && mantissa < EXACT_MANTISSA && fraction < POWERS_OF_TEN.length) {
+                // Both operands are exact, so one division rounds correctly.
+                cost = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+            } else {
+                byte[] text = new byte[at - start];
+                buffer.get(start, text);
+                cost = Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+            }
+            return comma() ? cost : Double.NaN;
+        }
+
+        // A non-negative int followed by a comma, or by the end of the row if it is the last field; else -1.
+        private int parseInt(boolean last) {
+            skipSpaces();
+            long value = 0;
+            int digits = 0;
+            while (at < rowEnd && buffer.get(at) >= '0' && buffer.get(at) <= '9' && value <= Integer.MAX_VALUE) {
+                value = value * 10 + (buffer.get(at++) - '0');
+                digits++;
+            }
+            boolean ended = last ? skipSpaces() == rowEnd : comma();
+            return digits > 0 && value <= Integer.MAX_VALUE && ended ? (int) value : -1;
+        }
+
+        // Steps over a comma at the current position, after optional spaces.
+        private boolean comma() {
+            skipSpaces();
+            if (at < rowEnd && buffer.get(at) == ',') {
+                at++;
+                return true;
+            }
+            return false;
+        }
+
+        private int skipSpaces() {
+            while (at < rowEnd && (buffer.get(at) == ' ' || buffer.get(at) == '\t')) {
+                at++;
+            }
+            return at;
+        }
+    }
+}
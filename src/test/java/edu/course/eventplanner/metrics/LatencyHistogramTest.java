@@ -0,0 +1,53 @@
+package edu.course.eventplanner.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should map every value into a bucket whose top is within 1/16 of it")
+    void testBucketPrecision() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(1, LatencyHistogram.MAX_TRACKABLE);
+            long top = LatencyHistogram.highestEquivalent(LatencyHistogram.bucketOf(value));
+            assertTrue(top >= value && top - value <= value / 16, value + " -> " + top);
+        }
+        for (long value = 0; value < 100; value++) {
+            assertTrue(LatencyHistogram.highestEquivalent(LatencyHistogram.bucketOf(value)) >= value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report percentiles close to the exact sorted values")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(2);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble(3, 16));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, histogram.getCount());
+        assertEquals(values[values.length - 1], histogram.getMaxNanos());
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported - exact <= exact / 16, percentile + ": " + reported);
+        }
+        assertEquals(Arrays.stream(values).average().orElseThrow(), histogram.getMeanNanos(), 1e-6);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+}
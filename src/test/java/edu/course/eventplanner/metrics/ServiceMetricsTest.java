@@ -0,0 +1,75 @@
+package edu.course.eventplanner.metrics;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Task;
+import edu.course.eventplanner.service.GuestListManager;
+import edu.course.eventplanner.service.TaskManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        ServiceMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceMetrics.setEnabled(false);
+        ServiceMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("Should only count operations while collection is enabled")
+    void testEnableSwitch() {
+        GuestListManager manager = new GuestListManager();
+        manager.addGuest(new Guest("John Doe", "family"));
+        assertEquals(0, ServiceMetrics.histogram(Operation.ADD_GUEST).getCount());
+
+        ServiceMetrics.setEnabled(true);
+        manager.addGuest(new Guest("Jane Smith", "friends"));
+        manager.addGuest(null);
+        manager.findGuest("John Doe");
+        manager.removeGuest("Nobody");
+        TaskManager tasks = new TaskManager();
+        tasks.addTask(new Task("Book venue"));
+        tasks.executeNextTask();
+
+        assertEquals(2, ServiceMetrics.histogram(Operation.ADD_GUEST).getCount());
+        assertEquals(1, ServiceMetrics.histogram(Operation.FIND_GUEST).getCount());
+        assertEquals(1, ServiceMetrics.histogram(Operation.REMOVE_GUEST).getCount());
+        assertEquals(1, ServiceMetrics.histogram(Operation.EXECUTE_NEXT_TASK).getCount());
+        assertEquals(0, ServiceMetrics.histogram(Operation.SELECT_VENUE).getCount());
+
+        String dump = ServiceMetrics.dump();
+        assertTrue(dump.lines().anyMatch(line -> line.startsWith("addGuest") && line.contains(" 2 ")), dump);
+    }
+
+    @Test
+    @DisplayName("Should expose counts and the enable switch over JMX")
+    void testMXBean() throws Exception {
+        ServiceMetrics.registerMBean();
+        ServiceMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(ServiceMetrics.OBJECT_NAME);
+
+        server.setAttribute(name, new Attribute("Enabled", true));
+        assertTrue(ServiceMetrics.isEnabled());
+        new GuestListManager().findGuest("John Doe");
+
+        TabularData counts = (TabularData) server.getAttribute(name, "Counts");
+        assertEquals(1L, counts.get(new Object[] {"findGuest"}).get("value"));
+        assertTrue(((String) server.invoke(name, "dump", null, null)).contains("findGuest"));
+    }
+}
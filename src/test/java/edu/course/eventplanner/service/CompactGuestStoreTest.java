@@ -0,0 +1,146 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.util.Generators;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactGuestStoreTest {
+
+    private CompactGuestStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CompactGuestStore();
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Guest guest : store) {
+            names.add(guest.getName());
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("Should add, find and remove guests")
+    void testBasicOperations() {
+        store.addGuest(new Guest("John Doe", "family"));
+        store.addGuest(new Guest("Zoë Ångström", "friends"));
+        store.addGuest(null);
+        store.addGuest(new Guest(null, "family"));
+
+        assertEquals(2, store.getGuestCount());
+        assertEquals("friends", store.findGuest("Zoë Ångström").getGroupTag());
+        assertNull(store.findGuest("Nobody"));
+        assertNull(store.findGuest(null));
+
+        assertTrue(store.removeGuest("John Doe"));
+        assertFalse(store.removeGuest("John Doe"));
+        assertFalse(store.removeGuest(null));
+        assertNull(store.findGuest("John Doe"));
+        assertEquals(List.of("Zoë Ångström"), names());
+    }
+
+    @Test
+    @DisplayName("Should replace a guest added again under the same name")
+    void testReplaceSameName() {
+        store.addGuest(new Guest("John Doe", "family"));
+        store.addGuest(new Guest("Jane Smith", "friends"));
+        store.addGuest(new Guest("John Doe", "coworkers"));
+
+        assertEquals(2, store.getGuestCount());
+        assertEquals("coworkers", store.findGuest("John Doe").getGroupTag());
+        assertEquals(List.of("Jane Smith", "John Doe"), names());
+    }
+
+    @Test
+    @DisplayName("Should keep insertion order and lookups through compaction")
+    void testCompaction() {
+        int n = 10_000;
+        for (int i = 0; i < n; i++) {
+            store.addGuest(new Guest("Guest" + i, "group" + (i % 4)));
+        }
+        for (int i = 0; i < n; i++) {
+            if (i % 3 != 0) {
+                assertTrue(store.removeGuest("Guest" + i));
+            }
+        }
+
+        List<String> names = names();
+        assertEquals(store.getGuestCount(), names.size());
+        for (int i = 0, k = 0; i < n; i += 3, k++) {
+            assertEquals("Guest" + i, names.get(k));
+            assertEquals("group" + (i % 4), store.findGuest("Guest" + i).getGroupTag());
+        }
+        assertNull(store.findGuest("Guest1"));
+        assertEquals(Set.of("group0", "group1", "group2", "group3"), store.groupTags());
+    }
+
+    @Test
+    @DisplayName("Should squeeze out slots left behind by replaced guests")
+    void testReplaceCompacts() {
+        for (int i = 0; i < 10_000; i++) {
+            store.addGuest(new Guest("John Doe", "group" + (i % 4)));
+        }
+
+        assertEquals(1, store.getGuestCount());
+        assertEquals("group3", store.findGuest("John Doe").getGroupTag());
+        assertEquals(List.of("John Doe"), names());
+        // 10k stale names would need 80 kB of arena alone.
+        assertTrue(store.footprintBytes() < 4_096, "footprint: " + store.footprintBytes());
+    }
+
+    // Heap still reachable from what build returns, measured as used heap after a GC.
+    private static long retainedBytes(Supplier<Object> build) {
+        Runtime runtime = Runtime.getRuntime();
+        long before = usedAfterGc(runtime);
+        Object built = build.get();
+        long after = usedAfterGc(runtime);
+        Reference.reachabilityFence(built);
+        return after - before;
+    }
+
+    private static long usedAfterGc(Runtime runtime) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    @DisplayName("Should use far fewer bytes per guest than object-per-guest storage")
+    void testFootprint() {
+        int n = 200_000;
+        long managerBytes = retainedBytes(() -> {
+            GuestListManager manager = new GuestListManager();
+            for (Guest guest : Generators.GenerateGuests(n)) {
+                manager.addGuest(guest);
+            }
+            return manager;
+        });
+        CompactGuestStore[] sized = new CompactGuestStore[1];
+        long compactBytes = retainedBytes(() -> {
+            sized[0] = new CompactGuestStore(n);
+            for (Guest guest : Generators.GenerateGuests(n)) {
+                sized[0].addGuest(guest);
+            }
+            sized[0].trimToSize();
+            return sized[0];
+        });
+
+        assertTrue(compactBytes * 3 < managerBytes,
+                "bytes per guest: compact " + compactBytes / n + ", manager " + managerBytes / n);
+        assertEquals(n, sized[0].getGuestCount());
+        assertEquals("Guest" + n, sized[0].findGuest("Guest" + n).getName());
+    }
+}
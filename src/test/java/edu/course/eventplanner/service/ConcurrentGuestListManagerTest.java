@@ -0,0 +1,167 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGuestListManagerTest {
+
+    private static final int THREADS = 8;
+
+    private ConcurrentGuestListManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ConcurrentGuestListManager();
+    }
+
+    private void runConcurrently(int threads, IntTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private interface IntTask {
+        void run(int threadId) throws Exception;
+    }
+
+    @Nested
+    @DisplayName("Single-threaded Tests")
+    class SingleThreadedTests {
+
+        @Test
+        @DisplayName("Should add, find and remove like GuestListManager")
+        void testBasicOperations() {
+            Guest john = new Guest("John Doe", "family");
+            Guest jane = new Guest("Jane Smith", "friends");
+            manager.addGuest(john);
+            manager.addGuest(jane);
+            manager.addGuest(null);
+            manager.addGuest(new Guest(null, "family"));
+
+            assertEquals(2, manager.getGuestCount());
+            assertEquals(john, manager.findGuest("John Doe"));
+            assertEquals(List.of(john, jane), manager.getAllGuests());
+
+            assertTrue(manager.removeGuest("John Doe"));
+            assertFalse(manager.removeGuest("John Doe"));
+            assertFalse(manager.removeGuest(null));
+            assertNull(manager.findGuest("John Doe"));
+            assertNull(manager.findGuest(null));
+            assertEquals(List.of(jane), manager.getAllGuests());
+        }
+
+        @Test
+        @DisplayName("Should keep duplicates in the list with the last one mapped")
+        void testDuplicateNames() {
+            manager.addGuest(new Guest("John Doe", "family"));
+            manager.addGuest(new Guest("John Doe", "friends"));
+
+            assertEquals(2, manager.getGuestCount());
+            assertEquals("friends", manager.findGuest("John Doe").getGroupTag());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stress Tests")
+    class StressTests {
+
+        @Test
+        @DisplayName("Should not lose guests added and removed from many threads")
+        void testParallelAddAndRemove() throws Exception {
+            int perThread = 20_000;
+            runConcurrently(THREADS, id -> {
+                for (int i = 0; i < perThread; i++) {
+                    manager.addGuest(new Guest("T" + id + "-" + i, "group" + (i % 4)));
+                }
+                for (int i = 0; i < perThread; i += 2) {
+                    assertTrue(manager.removeGuest("T" + id + "-" + i));
+                }
+            });
+
+            int expected = THREADS * perThread / 2;
+            assertEquals(expected, manager.getGuestCount());
+            List<Guest> all = manager.getAllGuests();
+            assertEquals(expected, all.size());
+            Set<String> names = new HashSet<>();
+            for (Guest guest : all) {
+                assertTrue(names.add(guest.getName()), "No guest listed twice");
+                assertSame(guest, manager.findGuest(guest.getName()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep count and list in sync when threads race on the same names")
+        void testContendedNames() throws Exception {
+            int rounds = 20_000;
+            runConcurrently(THREADS, id -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < rounds; i++) {
+                    String name = "Shared" + random.nextInt(16);
+                    if (random.nextBoolean()) {
+                        manager.addGuest(new Guest(name, "family"));
+                    } else {
+                        manager.removeGuest(name);
+                    }
+                }
+            });
+
+            assertEquals(manager.getAllGuests().size(), manager.getGuestCount());
+            for (int i = 0; i < 16; i++) {
+                Guest mapped = manager.findGuest("Shared" + i);
+                if (mapped != null) {
+                    assertTrue(manager.getAllGuests().stream().anyMatch(g -> g == mapped),
+                            "Mapped guest must also be listed");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should let readers iterate while writers mutate")
+        void testReadersDuringWrites() throws Exception {
+            int perThread = 10_000;
+            runConcurrently(THREADS, id -> {
+                if (id % 2 == 0) {
+                    for (int i = 0; i < perThread; i++) {
+                        manager.addGuest(new Guest("W" + id + "-" + i, "friends"));
+                    }
+                } else {
+                    for (int i = 0; i < 50; i++) {
+                        for (Guest guest : manager.getAllGuests()) {
+                            assertNotNull(guest);
+                        }
+                        manager.findGuest("W0-" + i);
+                    }
+                }
+            });
+
+            assertEquals(THREADS / 2 * perThread, manager.getGuestCount());
+        }
+    }
+}
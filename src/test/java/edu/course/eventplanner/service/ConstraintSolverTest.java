@@ -0,0 +1,157 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.SeatingConstraint;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static edu.course.eventplanner.model.SeatingConstraint.apart;
+import static edu.course.eventplanner.model.SeatingConstraint.together;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstraintSolverTest {
+
+    private static List<Guest> guests(int count, int groups) {
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            guests.add(new Guest("G" + i, "group" + (i % groups)));
+        }
+        return guests;
+    }
+
+    // Checks table capacity and recomputes the broken constraints independently of the solver.
+    private static List<SeatingConstraint> check(Venue venue, List<Guest> guests,
+            List<SeatingConstraint> constraints, ConstrainedSeating seating) {
+        SeatingPlan plan = seating.getPlan();
+        Map<String, Integer> tableByName = new HashMap<>();
+        for (int table = 1; table <= plan.getTableCount(); table++) {
+            assertTrue(plan.tableSize(table) <= venue.getSeatsPerTable(), "table " + table);
+        }
+        for (int i = 0; i < guests.size(); i++) {
+            assertTrue(plan.tableOf(i) >= 1, guests.get(i).getName() + " not seated");
+            tableByName.put(guests.get(i).getName(), plan.tableOf(i));
+        }
+        List<SeatingConstraint> broken = new ArrayList<>();
+        for (SeatingConstraint rule : constraints) {
+            Integer first = tableByName.get(rule.getFirst());
+            Integer second = tableByName.get(rule.getSecond());
+            if (first != null && second != null
+                    && first.equals(second) != (rule.getKind() == SeatingConstraint.Kind.TOGETHER)) {
+                broken.add(rule);
+            }
+        }
+        assertEquals(broken, seating.getViolations());
+        return broken;
+    }
+
+    @Test
+    @DisplayName("Should meet together and apart rules when they can all hold")
+    void testSatisfiable() {
+        Venue venue = new Venue("Hall", 0, 12, 3, 4);
+        List<Guest> guests = guests(12, 1);
+        List<SeatingConstraint> constraints = List.of(
+                together("G0", "G11"), together("G11", "G5"),
+                apart("G0", "G1"), apart("G1", "G2"), apart("G0", "G2"),
+                apart("G5", "G7"), together("G7", "G8"), apart("G8", "G3"),
+                apart("Nobody", "G3"));
+
+        ConstrainedSeating seating = new SeatingPlanner(venue).planSeating(guests, constraints);
+
+        assertTrue(seating.isSatisfied(), seating.getViolations().toString());
+        check(venue, guests, constraints, seating);
+        SeatingPlan plan = seating.getPlan();
+        assertEquals(plan.tableOf(0), plan.tableOf(11));
+        assertEquals(plan.tableOf(0), plan.tableOf(5));
+    }
+
+    @Test
+    @DisplayName("Should swap guests between full tables to clear conflicts")
+    void testRepairOnFullVenue() {
+        Venue venue = new Venue("Hall", 0, 6, 3, 2);
+        List<Guest> guests = guests(6, 1);
+        // Each guest clashes with two others: only the pairings {0,3}, {1,4}, {2,5} work.
+        List<SeatingConstraint> constraints = List.of(
+                apart("G0", "G1"), apart("G1", "G2"), apart("G2", "G0"),
+                apart("G3", "G4"), apart("G4", "G5"), apart("G5", "G3"),
+                apart("G0", "G4"), apart("G0", "G5"), apart("G1", "G3"),
+                apart("G1", "G5"), apart("G2", "G3"), apart("G2", "G4"));
+
+        ConstrainedSeating seating = new SeatingPlanner(venue).planSeating(guests, constraints);
+
+        assertTrue(seating.isSatisfied(), seating.getViolations().toString());
+        check(venue, guests, constraints, seating);
+    }
+
+    @Test
+    @DisplayName("Should swap a conflicting guest into a full table")
+    void testSwapIntoFullTable() {
+        Venue venue = new Venue("Hall", 0, 6, 2, 3);
+        List<Guest> guests = List.of(new Guest("G0", "t1"), new Guest("G1", "t1"), new Guest("G2", "t2"),
+                new Guest("G3", "t0"), new Guest("G4", "t2"));
+        // Greedy fills both tables and leaves G3 beside a rival; only a swap can part them.
+        List<SeatingConstraint> constraints = List.of(apart("G2", "G3"), apart("G1", "G3"), together("G0", "G1"));
+
+        ConstrainedSeating seating = new SeatingPlanner(venue).planSeating(guests, constraints);
+
+        assertTrue(seating.isSatisfied(), seating.getViolations().toString());
+        check(venue, guests, constraints, seating);
+    }
+
+    @Test
+    @DisplayName("Should list only the rules that cannot hold")
+    void testUnsatisfiable() {
+        Venue venue = new Venue("Hall", 0, 8, 2, 4);
+        List<Guest> guests = guests(8, 2);
+        List<SeatingConstraint> constraints = List.of(
+                // Three people who all clash, with two tables.
+                apart("G0", "G1"), apart("G1", "G2"), apart("G2", "G0"),
+                // Contradictory rules for one pair.
+                together("G3", "G4"), apart("G3", "G4"),
+                // Five people who must sit together at tables of four.
+                together("G5", "G6"), together("G6", "G7"), together("G7", "G3"),
+                together("G3", "G0"));
+
+        ConstrainedSeating seating = new SeatingPlanner(venue).planSeating(guests, constraints);
+
+        List<SeatingConstraint> broken = check(venue, guests, constraints, seating);
+        assertFalse(seating.isSatisfied());
+        assertTrue(broken.contains(constraints.get(4)));
+        assertEquals(3, broken.size(), broken.toString());
+    }
+
+    @Test
+    @DisplayName("Should seat 20k guests under 100k rules, breaking only the impossible ones")
+    void testLargeEvent() {
+        Random random = new Random(15);
+        List<Guest> guests = guests(20_000, 3_000);
+        List<SeatingConstraint> constraints = new ArrayList<>();
+        for (int i = 0; i + 1 < 20_000; i += 4) {
+            constraints.add(together("G" + i, "G" + (i + 1)));
+        }
+        while (constraints.size() < 100_000) {
+            constraints.add(apart("G" + random.nextInt(20_000), "G" + random.nextInt(20_000)));
+        }
+        Venue venue = new Venue("Arena", 0, 21_000, 2_100, 10);
+        ConstrainedSeating seating = new SeatingPlanner(venue).planSeating(guests, constraints);
+
+        check(venue, guests, constraints, seating);
+        // Only random rules that pick one guest twice, or both guests of a together pair, must break.
+        long forced = constraints.stream().filter(c -> {
+            int a = Integer.parseInt(c.getFirst().substring(1));
+            int b = Integer.parseInt(c.getSecond().substring(1));
+            return c.getKind() == SeatingConstraint.Kind.APART
+                    && (a == b || Math.min(a, b) % 4 == 0 && Math.abs(a - b) == 1);
+        }).count();
+        assertEquals(forced, seating.getViolations().size());
+    }
+
+    @Test
+    @DisplayName("Should reject constraints without both names")
+    void testRejectsMissingNames() {
+        assertThrows(IllegalArgumentException.class, () -> together("G0", null));
+        assertThrows(IllegalArgumentException.class, () -> apart(null, "G0"));
+    }
+}
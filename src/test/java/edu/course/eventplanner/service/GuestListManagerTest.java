@@ -6,7 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -310,6 +315,309 @@ class GuestListManagerTest {
             assertTrue(guests.contains(guest1));
             assertTrue(guests.contains(guest3));
         }
+
+        @Test
+        @DisplayName("Should keep order after removing head, middle and tail")
+        void testOrderAfterRemovingEnds() {
+            Guest guest4 = new Guest("Amy Lee", "family");
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest3);
+            guestListManager.addGuest(guest4);
+
+            guestListManager.removeGuest("John Doe");
+            guestListManager.removeGuest("Amy Lee");
+            assertEquals(List.of(guest2, guest3), guestListManager.getAllGuests());
+
+            guestListManager.addGuest(guest1);
+            guestListManager.removeGuest("Bob Johnson");
+            assertEquals(List.of(guest2, guest1), guestListManager.getAllGuests());
+            assertEquals(guest1, guestListManager.getAllGuests().get(1));
+        }
+
+        @Test
+        @DisplayName("Should fail fast when the list changes during iteration")
+        void testIterationFailsFastOnChange() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest3);
+
+            assertThrows(ConcurrentModificationException.class, () -> {
+                for (Guest guest : guestListManager.getAllGuests()) {
+                    guestListManager.removeGuest(guest.getName());
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("Should not allow modification through the returned list")
+        void testReturnedListIsReadOnly() {
+            guestListManager.addGuest(guest1);
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> guestListManager.getAllGuests().add(guest2));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> guestListManager.getAllGuests().remove(0));
+        }
+
+        @Test
+        @DisplayName("Should remove quickly from a large list")
+        void testRemoveFromLargeList() {
+            int n = 200_000;
+            for (int i = 0; i < n; i++) {
+                guestListManager.addGuest(new Guest("Guest" + i, "family"));
+            }
+            for (int i = 0; i < n; i += 2) {
+                assertTrue(guestListManager.removeGuest("Guest" + i));
+            }
+
+            assertEquals(n / 2, guestListManager.getGuestCount());
+            assertEquals("Guest1", guestListManager.getAllGuests().get(0).getName());
+            assertEquals("Guest" + (n - 1), guestListManager.getAllGuests().get(n / 2 - 1).getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Group Index Tests")
+    class GroupIndexTests {
+
+        @Test
+        @DisplayName("Should return guests of a group in insertion order")
+        void testFindByGroup() {
+            Guest guest4 = new Guest("Amy Lee", "family");
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest4);
+
+            assertEquals(List.of(guest1, guest4), guestListManager.findByGroup("family"));
+            assertEquals(List.of(guest2), guestListManager.findByGroup("friends"));
+            assertTrue(guestListManager.findByGroup("coworkers").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should count guests per group")
+        void testCountByGroup() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(new Guest("Amy Lee", "family"));
+            guestListManager.addGuest(guest3);
+
+            assertEquals(2, guestListManager.countByGroup("family"));
+            assertEquals(1, guestListManager.countByGroup("coworkers"));
+            assertEquals(0, guestListManager.countByGroup("neighbors"));
+            assertEquals(0, guestListManager.countByGroup(null));
+        }
+
+        @Test
+        @DisplayName("Should update the index when guests are removed")
+        void testIndexAfterRemoval() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest3);
+
+            guestListManager.removeGuest("Jane Smith");
+
+            assertEquals(0, guestListManager.countByGroup("friends"));
+            assertTrue(guestListManager.findByGroup("friends").isEmpty());
+            assertEquals(Set.of("family", "coworkers"), guestListManager.groupTags());
+        }
+
+        @Test
+        @DisplayName("Should index guests with a null group tag")
+        void testNullGroupTag() {
+            Guest untagged = new Guest("Sam Gray", null);
+            guestListManager.addGuest(untagged);
+
+            assertEquals(List.of(untagged), guestListManager.findByGroup(null));
+            assertTrue(guestListManager.removeGuest("Sam Gray"));
+            assertTrue(guestListManager.groupTags().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep unmapped duplicates in their group")
+        void testDuplicatesStayIndexed() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(new Guest("John Doe", "family"));
+
+            guestListManager.removeGuest("John Doe");
+
+            assertEquals(List.of(guest1), guestListManager.findByGroup("family"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Name Search Tests")
+    class NameSearchTests {
+
+        private List<String> names(List<Guest> guests) {
+            return guests.stream().map(Guest::getName).toList();
+        }
+
+        @Test
+        @DisplayName("Should find guests by prefix in sorted order up to the limit")
+        void testFindByPrefix() {
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(new Guest("Jane Adams", "friends"));
+            guestListManager.addGuest(new Guest("Janet Lee", "family"));
+
+            assertEquals(List.of("Jane Adams", "Jane Smith", "Janet Lee"),
+                    names(guestListManager.findByPrefix("Jane", 10)));
+            assertEquals(List.of("Jane Adams"), names(guestListManager.findByPrefix("Jane", 1)));
+            assertTrue(guestListManager.findByPrefix("Zed", 10).isEmpty());
+            assertTrue(guestListManager.findByPrefix(null, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should find names within the edit distance, closest first")
+        void testFindSimilar() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(new Guest("Jon Doe", "family"));
+
+            assertEquals(List.of("John Doe", "Jon Doe"), names(guestListManager.findSimilar("Jhn Doe", 1)));
+            assertEquals(List.of("John Doe"), names(guestListManager.findSimilar("John Doe", 0)));
+            assertTrue(guestListManager.findSimilar("Someone Else", 2).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep the index in sync with adds and removes")
+        void testIndexFollowsMutations() {
+            guestListManager.addGuest(guest1);
+            assertEquals(1, guestListManager.findByPrefix("John", 10).size());
+
+            guestListManager.removeGuest("John Doe");
+            guestListManager.addGuest(guest3);
+            guestListManager.addAll(List.of(new Guest("Johnny Cash", "friends")));
+
+            assertEquals(List.of("Johnny Cash"), names(guestListManager.findByPrefix("John", 10)));
+            assertEquals(List.of("Bob Johnson"), names(guestListManager.findSimilar("Bob Jonson", 1)));
+        }
+
+        @Test
+        @DisplayName("Should agree with a brute-force scan on random names")
+        void testMatchesBruteForce() {
+            Random random = new Random(42);
+            List<String> all = new ArrayList<>();
+            for (int i = 0; i < 3_000; i++) {
+                StringBuilder name = new StringBuilder();
+                int length = 1 + random.nextInt(8);
+                for (int c = 0; c < length; c++) {
+                    name.append((char) ('a' + random.nextInt(4)));
+                }
+                all.add(name.toString());
+                guestListManager.addGuest(new Guest(name.toString(), "family"));
+            }
+            for (int i = 0; i < 1_000; i++) {
+                guestListManager.removeGuest(all.get(random.nextInt(all.size())));
+            }
+
+            for (int i = 0; i < 50; i++) {
+                String query = all.get(random.nextInt(all.size())) + (char) ('a' + random.nextInt(4));
+                List<String> expected = guestListManager.getAllGuests().stream()
+                        .map(Guest::getName)
+                        .filter(name -> guestListManager.findGuest(name) != null)
+                        .distinct()
+                        .filter(name -> levenshtein(query, name) <= 2)
+                        .sorted(Comparator.<String>comparingInt(name -> levenshtein(query, name))
+                                .thenComparing(Comparator.naturalOrder()))
+                        .toList();
+                assertEquals(expected, names(guestListManager.findSimilar(query, 2)), "query " + query);
+            }
+        }
+
+        private int levenshtein(String a, String b) {
+            int[][] d = new int[a.length() + 1][b.length() + 1];
+            for (int i = 0; i <= a.length(); i++) {
+                for (int j = 0; j <= b.length(); j++) {
+                    if (i == 0 || j == 0) {
+                        d[i][j] = i + j;
+                    } else {
+                        int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                        d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                    }
+                }
+            }
+            return d[a.length()][b.length()];
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should not change after later adds and removes")
+        void testSnapshotIsStable() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            GuestListSnapshot snapshot = guestListManager.snapshot();
+
+            guestListManager.removeGuest("John Doe");
+            guestListManager.addGuest(guest3);
+
+            assertEquals(List.of(guest1, guest2), snapshot);
+            assertEquals(List.of(guest2, guest3), guestListManager.snapshot());
+        }
+
+        @Test
+        @DisplayName("Should reuse the snapshot while the list is unchanged")
+        void testSnapshotVersioning() {
+            guestListManager.addGuest(guest1);
+            GuestListSnapshot first = guestListManager.snapshot();
+
+            assertSame(first, guestListManager.snapshot());
+            assertEquals(guestListManager.getVersion(), first.getVersion());
+
+            guestListManager.addGuest(guest2);
+            GuestListSnapshot second = guestListManager.snapshot();
+            assertNotSame(first, second);
+            assertTrue(second.getVersion() > first.getVersion());
+
+            guestListManager.removeGuest("Nobody");
+            assertSame(second, guestListManager.snapshot());
+        }
+
+        @Test
+        @DisplayName("Should support positional access over removed entries")
+        void testSnapshotGetSkipsRemoved() {
+            guestListManager.addGuest(guest1);
+            guestListManager.addGuest(guest2);
+            guestListManager.addGuest(guest3);
+            guestListManager.removeGuest("Jane Smith");
+
+            GuestListSnapshot snapshot = guestListManager.snapshot();
+
+            assertEquals(2, snapshot.size());
+            assertEquals(guest3, snapshot.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(2));
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.add(guest2));
+        }
+
+        @Test
+        @DisplayName("Should keep every snapshot intact across heavy churn and compaction")
+        void testSnapshotsUnderChurn() {
+            List<List<Guest>> expected = new ArrayList<>();
+            List<GuestListSnapshot> snapshots = new ArrayList<>();
+            Random random = new Random(7);
+            for (int i = 0; i < 5_000; i++) {
+                if (random.nextInt(3) == 0 && guestListManager.getGuestCount() > 0) {
+                    List<Guest> all = guestListManager.getAllGuests();
+                    guestListManager.removeGuest(all.get(random.nextInt(all.size())).getName());
+                } else {
+                    guestListManager.addGuest(new Guest("Guest" + i, "family"));
+                }
+                if (i % 250 == 0) {
+                    snapshots.add(guestListManager.snapshot());
+                    expected.add(new ArrayList<>(guestListManager.getAllGuests()));
+                }
+            }
+
+            for (int i = 0; i < snapshots.size(); i++) {
+                assertEquals(expected.get(i), snapshots.get(i));
+                assertEquals(expected.get(i), new ArrayList<>(snapshots.get(i)));
+            }
+            assertEquals(guestListManager.getAllGuests(), guestListManager.snapshot());
+        }
     }
 
     @Nested
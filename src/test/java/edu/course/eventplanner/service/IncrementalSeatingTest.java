@@ -0,0 +1,172 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalSeatingTest {
+
+    // Checks the plan against the guests expected to be present and the cost it reports.
+    private static void assertConsistent(Venue venue, IncrementalSeating seating, Collection<Guest> present) {
+        Map<Integer, List<Guest>> plan = seating.toMap();
+        Set<Guest> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, Set<Integer>> tablesByGroup = new HashMap<>();
+        plan.forEach((table, guests) -> {
+            assertTrue(guests.size() <= venue.getSeatsPerTable(), "table " + table);
+            for (Guest guest : guests) {
+                assertTrue(seen.add(guest));
+                assertEquals(table, seating.tableOf(guest));
+                assertEquals(table, seating.tableFor(guest.getName()));
+                assertEquals(guests.size() - 1, seating.tableMates(guest.getName()).size());
+                tablesByGroup.computeIfAbsent(guest.getGroupTag(), k -> new HashSet<>()).add(table);
+            }
+        });
+        for (Guest guest : seating.getWaitlist()) {
+            assertTrue(seen.add(guest));
+            assertEquals(-1, seating.tableOf(guest));
+            assertEquals(-1, seating.tableFor(guest.getName()));
+        }
+        assertEquals(present.size(), seen.size());
+        assertTrue(seen.containsAll(present));
+        long cost = 0;
+        for (Set<Integer> tables : tablesByGroup.values()) {
+            cost += tables.size() + (tables.size() > 1 ? 1 : 0);
+        }
+        assertEquals(cost, seating.getCost());
+    }
+
+    @Test
+    @DisplayName("Should seat a late guest with their group without moving anyone")
+    void testAddJoinsGroup() {
+        Venue venue = new Venue("Hall", 0, 40, 4, 10);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            guests.add(new Guest("Family" + i, "family"));
+            guests.add(new Guest("Friend" + i, "friends"));
+        }
+        IncrementalSeating seating = new IncrementalSeating(venue, guests);
+        assertEquals(2, seating.getCost());
+
+        Guest late = new Guest("Late Cousin", "family");
+        seating.guestAdded(late);
+        guests.add(late);
+
+        assertEquals(seating.tableOf(guests.get(0)), seating.tableOf(late));
+        Guest stranger = new Guest("Stranger", "solo");
+        seating.guestAdded(stranger);
+        guests.add(stranger);
+        assertEquals(0, seating.getMovedGuests());
+        assertEquals(0, seating.getRecomputeCount());
+        assertConsistent(venue, seating, guests);
+    }
+
+    @Test
+    @DisplayName("Should move a lone guest aside to make room for a group at a full table")
+    void testMakeRoom() {
+        Venue venue = new Venue("Hall", 0, 8, 2, 4);
+        List<Guest> guests = new ArrayList<>(List.of(
+                new Guest("A1", "a"), new Guest("A2", "a"), new Guest("A3", "a"), new Guest("B1", "b"),
+                new Guest("B2", "b"), new Guest("B3", "b")));
+        IncrementalSeating seating = new IncrementalSeating(venue, guests);
+        // a fills 3 seats of table 1, b 3 seats of table 2; a lone b guest then takes the last seat at table 1.
+        Guest b4 = new Guest("B4", "b");
+        seating.guestAdded(b4);
+        Guest intruder = new Guest("B5", "b");
+        seating.guestAdded(intruder);
+        guests.addAll(List.of(b4, intruder));
+        int tableOfA = seating.tableOf(guests.get(0));
+        assertEquals(tableOfA, seating.tableOf(intruder));
+
+        seating.guestRemoved(b4);
+        guests.remove(b4);
+        // The freed seat at b's table pulls the lone b guest back from a's table.
+        assertNotEquals(tableOfA, seating.tableOf(intruder));
+        Guest a4 = new Guest("A4", "a");
+        seating.guestAdded(a4);
+        guests.add(a4);
+        assertEquals(tableOfA, seating.tableOf(a4));
+        assertEquals(2, seating.getCost());
+        assertConsistent(venue, seating, guests);
+    }
+
+    @Test
+    @DisplayName("Should waitlist guests while the venue is full and seat them as seats free up")
+    void testWaitlist() {
+        Venue venue = new Venue("Tiny", 0, 4, 1, 4);
+        GuestListManager manager = new GuestListManager();
+        for (int i = 0; i < 4; i++) {
+            manager.addGuest(new Guest("Guest" + i, "g"));
+        }
+        IncrementalSeating seating = new IncrementalSeating(venue, manager.getAllGuests());
+        manager.addListener(seating);
+
+        manager.addGuest(new Guest("Late", "g"));
+        assertEquals(1, seating.getWaitlist().size());
+        assertEquals(4, seating.getSeatedCount());
+
+        manager.removeGuest("Guest0");
+        assertTrue(seating.getWaitlist().isEmpty());
+        assertEquals(1, seating.tableOf(manager.findGuest("Late")));
+        assertConsistent(venue, seating, manager.getAllGuests());
+    }
+
+    @Test
+    @DisplayName("Should stay consistent and fall back to a recompute under heavy churn")
+    void testRandomChurn() {
+        Venue venue = new Venue("Hall", 0, 2000, 200, 10);
+        Random random = new Random(11);
+        List<Guest> present = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            present.add(new Guest("Guest" + i, "group" + random.nextInt(300)));
+        }
+        IncrementalSeating seating = new IncrementalSeating(venue, present, 0.01);
+
+        for (int op = 0; op < 20_000; op++) {
+            if (random.nextInt(2) == 0 && !present.isEmpty()) {
+                Guest gone = present.remove(random.nextInt(present.size()));
+                seating.guestRemoved(gone);
+            } else {
+                Guest guest = new Guest("New" + op, "group" + random.nextInt(300));
+                present.add(guest);
+                seating.guestAdded(guest);
+            }
+        }
+        assertConsistent(venue, seating, present);
+        assertTrue(seating.getRecomputeCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep a 50k-guest plan consistent through 20k single changes")
+    void testLargePlanUpdates() {
+        Venue venue = new Venue("Arena", 0, 60_000, 6000, 10);
+        Random random = new Random(5);
+        List<Guest> present = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            present.add(new Guest("Guest" + i, "group" + random.nextInt(10_000)));
+        }
+        IncrementalSeating seating = new IncrementalSeating(venue, present);
+
+        for (int op = 0; op < 20_000; op++) {
+            if (op % 2 == 0) {
+                Guest guest = new Guest("New" + op, "group" + random.nextInt(10_000));
+                present.add(guest);
+                seating.guestAdded(guest);
+            } else {
+                int i = random.nextInt(present.size());
+                Guest gone = present.get(i);
+                present.set(i, present.get(present.size() - 1));
+                present.remove(present.size() - 1);
+                seating.guestRemoved(gone);
+            }
+        }
+
+        assertConsistent(venue, seating, present);
+        // Less movement over all 20k changes than one full reshuffle of the plan.
+        assertTrue(seating.getMovedGuests() < present.size(), "moved " + seating.getMovedGuests());
+    }
+}
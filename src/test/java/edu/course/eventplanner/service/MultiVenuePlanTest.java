@@ -0,0 +1,110 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiVenuePlanTest {
+
+    private static List<Guest> randomGroups(int count, int groups, long seed) {
+        Random random = new Random(seed);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(groups)));
+        }
+        return guests;
+    }
+
+    // Checks hall and table capacity, that every guest is seated once, and that both views agree.
+    private static void assertValid(List<Venue> halls, List<Guest> guests, MultiVenuePlan plan) {
+        int seated = 0;
+        for (int venue = 0; venue < halls.size(); venue++) {
+            Venue hall = halls.get(venue);
+            for (int table = 1; table <= hall.getTables(); table++) {
+                assertTrue(plan.tableSize(venue, table) <= hall.getSeatsPerTable());
+                for (int p = plan.tableStart(venue, table); p < plan.tableEnd(venue, table); p++) {
+                    assertEquals(venue, plan.venueOf(plan.guestIndexAt(p)));
+                    assertEquals(table, plan.tableOf(plan.guestIndexAt(p)));
+                    seated++;
+                }
+            }
+        }
+        assertEquals(guests.stream().filter(Objects::nonNull).count(), seated);
+        assertEquals(seated, plan.getSeatedCount());
+    }
+
+    private static Map<String, Set<Integer>> hallsByGroup(List<Guest> guests, MultiVenuePlan plan) {
+        Map<String, Set<Integer>> halls = new HashMap<>();
+        for (int i = 0; i < guests.size(); i++) {
+            if (guests.get(i) != null) {
+                halls.computeIfAbsent(guests.get(i).getGroupTag(), k -> new HashSet<>()).add(plan.venueOf(i));
+            }
+        }
+        return halls;
+    }
+
+    @Test
+    @DisplayName("Should keep each group in one hall and seat each hall like a single venue")
+    void testGroupsStayInOneHall() {
+        List<Venue> halls = List.of(new Venue("East", 0, 40, 4, 10), new Venue("West", 0, 60, 10, 6));
+        List<Guest> guests = new ArrayList<>(randomGroups(80, 16, 3));
+        guests.add(7, null);
+
+        MultiVenuePlan plan = SeatingPlanner.planAcross(halls, guests);
+
+        assertValid(halls, guests, plan);
+        assertEquals(-1, plan.venueOf(7));
+        assertEquals(-1, plan.tableOf(7));
+        hallsByGroup(guests, plan).forEach((group, used) -> assertEquals(1, used.size(), group));
+        for (int venue = 0; venue < 2; venue++) {
+            List<Guest> hallGuests = new ArrayList<>();
+            for (int i = 0; i < guests.size(); i++) {
+                if (plan.venueOf(i) == venue) {
+                    hallGuests.add(guests.get(i));
+                }
+            }
+            assertEquals(new SeatingPlanner(halls.get(venue)).generateSeating(hallGuests), plan.toMap(venue));
+        }
+    }
+
+    @Test
+    @DisplayName("Should split a group between halls only when no hall has room for it")
+    void testSplitsOversizedGroup() {
+        List<Venue> halls = List.of(new Venue("East", 0, 20, 2, 10), new Venue("West", 0, 20, 2, 10),
+                new Venue("Empty", 0, 0, 0, 10));
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            guests.add(new Guest("Guest" + i, i < 25 ? "big" : "small"));
+        }
+
+        MultiVenuePlan plan = SeatingPlanner.planAcross(halls, guests);
+
+        assertValid(halls, guests, plan);
+        Map<String, Set<Integer>> used = hallsByGroup(guests, plan);
+        assertEquals(Set.of(0, 1), used.get("big"));
+        assertEquals(1, used.get("small").size());
+        assertThrows(IllegalArgumentException.class,
+                () -> SeatingPlanner.planAcross(halls, randomGroups(41, 3, 1)));
+        assertEquals(0, SeatingPlanner.planAcross(List.of(), List.of()).getSeatedCount());
+    }
+
+    @Test
+    @DisplayName("Should seat 400k guests over four halls without splitting a group")
+    void testLargeEvent() {
+        List<Guest> guests = randomGroups(400_000, 80_000, 16);
+        List<Venue> halls = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            halls.add(new Venue("Hall" + h, 0, 110_000, 11_000, 10));
+        }
+        MultiVenuePlan plan = SeatingPlanner.planAcross(halls, guests);
+
+        assertValid(halls, guests, plan);
+        long split = hallsByGroup(guests, plan).values().stream().filter(h -> h.size() > 1).count();
+        assertEquals(0, split);
+    }
+}
@@ -0,0 +1,106 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingCacheTest {
+
+    private static GuestListManager manager(int guests) {
+        GuestListManager manager = new GuestListManager();
+        for (int i = 0; i < guests; i++) {
+            manager.addGuest(new Guest("Guest" + i, "group" + (i % 7)));
+        }
+        return manager;
+    }
+
+    @Test
+    @DisplayName("Should serve repeated requests from the cache until the guest list changes")
+    void testHitsAndInvalidation() {
+        GuestListManager manager = manager(50);
+        SeatingCache cache = new SeatingCache(manager);
+        Venue hall = new Venue("Hall", 0, 60, 6, 10);
+
+        SeatingPlan first = cache.planSeating(hall);
+        assertSame(first, cache.planSeating(hall));
+        // Same table layout, different venue object: same plan.
+        assertSame(first, cache.planSeating(new Venue("Annex", 10, 60, 6, 10)));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        manager.addGuest(new Guest("Late Arrival", "group1"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getInvalidationCount());
+        SeatingPlan second = cache.planSeating(hall);
+        assertNotSame(first, second);
+        assertEquals(51, second.getSeatedCount());
+        assertEquals(new SeatingPlanner(hall).generateSeating(manager.getAllGuests()), second.toMap());
+
+        cache.close();
+        manager.removeGuest("Late Arrival");
+        assertEquals(0, cache.size());
+        assertEquals(50, cache.planSeating(hall).getSeatedCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used plan past the entry or memory bound")
+    void testEviction() {
+        GuestListManager manager = manager(100);
+        Venue a = new Venue("A", 0, 100, 10, 10);
+        Venue b = new Venue("B", 0, 100, 20, 5);
+        Venue c = new Venue("C", 0, 100, 25, 4);
+        SeatingCache cache = new SeatingCache(manager, 2, Long.MAX_VALUE);
+
+        SeatingPlan planA = cache.planSeating(a);
+        cache.planSeating(b);
+        cache.planSeating(a);
+        cache.planSeating(c);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(planA, cache.planSeating(a));
+        assertEquals(3, cache.getMissCount());
+
+        long onePlan = cache.getBytes() / 2;
+        SeatingCache small = new SeatingCache(manager, 10, onePlan + onePlan / 2);
+        small.planSeating(a);
+        small.planSeating(b);
+        assertEquals(1, small.size());
+        assertTrue(small.getBytes() <= onePlan + onePlan / 2);
+        SeatingCache tiny = new SeatingCache(manager, 10, 1);
+        assertEquals(100, tiny.planSeating(a).getSeatedCount());
+        assertEquals(0, tiny.size());
+        assertThrows(IllegalArgumentException.class, () -> new SeatingCache(manager, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should count name indexes built after caching against the memory bound")
+    void testNameIndexCountsTowardsBound() {
+        GuestListManager manager = manager(1000);
+        Venue a = new Venue("A", 0, 1000, 100, 10);
+        Venue b = new Venue("B", 0, 1000, 200, 5);
+        SeatingCache probe = new SeatingCache(manager, 10, Long.MAX_VALUE);
+        SeatingPlan measured = probe.planSeating(a);
+        long plain = probe.getBytes();
+        measured.tableFor("Guest0");
+        long indexed = probe.getBytes();
+        assertTrue(indexed > 2 * plain, plain + " -> " + indexed);
+
+        // Room for two plain plans, but not for one indexed plan next to another.
+        long bound = plain + indexed - 1;
+        SeatingCache cache = new SeatingCache(manager, 10, bound);
+        SeatingPlan planA = cache.planSeating(a);
+        SeatingPlan planB = cache.planSeating(b);
+        assertEquals(2, cache.size());
+        assertTrue(planA.tableFor("Guest20") >= 1);
+
+        assertTrue(cache.getBytes() <= bound);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        // Lookups by name do not count as use, so the older plan went first.
+        assertSame(planB, cache.planSeating(b));
+        assertEquals(1, cache.getHitCount());
+    }
+}
@@ -0,0 +1,93 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingPlanTest {
+
+    private final Venue venue = new Venue("Hall", 0, 40, 4, 10);
+
+    private static List<Guest> guests(int count) {
+        Random random = new Random(9);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(7)));
+        }
+        return guests;
+    }
+
+    @Test
+    @DisplayName("Should match generateSeating and answer tableOf for every guest")
+    void testMatchesMapAndTableOf() {
+        List<Guest> guests = new LinkedList<>(guests(33));
+        guests.add(5, null);
+        SeatingPlanner planner = new SeatingPlanner(venue);
+
+        SeatingPlan plan = planner.planSeating(guests);
+
+        assertEquals(planner.generateSeating(guests), plan.toMap());
+        assertEquals(4, plan.getTableCount());
+        assertEquals(34, plan.getGuestCount());
+        assertEquals(33, plan.getSeatedCount());
+        assertEquals(-1, plan.tableOf(5));
+        Map<Integer, List<Guest>> map = plan.toMap();
+        for (int i = 0; i < guests.size(); i++) {
+            if (i != 5) {
+                assertTrue(map.get(plan.tableOf(i)).contains(plan.getGuest(i)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose each table as a contiguous range of positions")
+    void testTableRanges() {
+        List<Guest> guests = guests(37);
+        SeatingPlan plan = new SeatingPlanner(venue).planSeating(guests);
+
+        int seen = 0;
+        for (int table = 1; table <= plan.getTableCount(); table++) {
+            assertEquals(seen, plan.tableStart(table));
+            for (int p = plan.tableStart(table); p < plan.tableEnd(table); p++) {
+                assertEquals(table, plan.tableOf(plan.guestIndexAt(p)));
+                assertSame(guests.get(plan.guestIndexAt(p)), plan.guestAt(p));
+            }
+            assertTrue(plan.tableSize(table) <= venue.getSeatsPerTable());
+            seen = plan.tableEnd(table);
+        }
+        assertEquals(37, seen);
+        assertThrows(IndexOutOfBoundsException.class, () -> plan.tableStart(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> plan.tableEnd(5));
+    }
+
+    @Test
+    @DisplayName("Should look up a guest's table and table mates by name")
+    void testLookupByName() {
+        List<Guest> guests = guests(37);
+        SeatingPlan plan = new SeatingPlanner(venue).planSeating(guests);
+        Map<Integer, List<Guest>> map = plan.toMap();
+
+        for (Guest guest : guests) {
+            int table = plan.tableFor(guest.getName());
+            List<Guest> expected = new ArrayList<>(map.get(table));
+            expected.remove(guest);
+            assertEquals(expected, plan.tableMates(guest.getName()));
+        }
+        assertEquals(-1, plan.tableFor("Nobody"));
+        assertTrue(plan.tableMates("Nobody").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should give an empty plan for an empty guest list")
+    void testEmpty() {
+        SeatingPlan plan = new SeatingPlanner(venue).planSeating(List.of());
+        assertEquals(0, plan.getSeatedCount());
+        assertEquals(0, plan.tableSize(1));
+        assertTrue(plan.toMap().isEmpty());
+    }
+}
@@ -0,0 +1,206 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.util.Generators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingPlannerTest {
+
+    private static List<Guest> guests(String... nameGroupPairs) {
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < nameGroupPairs.length; i += 2) {
+            guests.add(new Guest(nameGroupPairs[i], nameGroupPairs[i + 1]));
+        }
+        return guests;
+    }
+
+    // Checks capacity and table limits, and that every guest is seated exactly once.
+    private static void assertValid(Venue venue, List<Guest> guests, Map<Integer, List<Guest>> seating) {
+        Set<Guest> seated = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<Integer, List<Guest>> table : seating.entrySet()) {
+            assertTrue(table.getKey() >= 1 && table.getKey() <= venue.getTables(), "table " + table.getKey());
+            assertTrue(table.getValue().size() <= venue.getSeatsPerTable(), "table " + table.getKey());
+            for (Guest guest : table.getValue()) {
+                assertTrue(seated.add(guest), guest.getName() + " seated twice");
+            }
+        }
+        assertEquals(guests.size(), seated.size());
+    }
+
+    private static Map<String, Set<Integer>> tablesByGroup(Map<Integer, List<Guest>> seating) {
+        Map<String, Set<Integer>> tables = new HashMap<>();
+        seating.forEach((table, guests) -> guests.forEach(
+                guest -> tables.computeIfAbsent(guest.getGroupTag(), k -> new HashSet<>()).add(table)));
+        return tables;
+    }
+
+    @Test
+    @DisplayName("Should keep each group at one table when groups fit")
+    void testGroupsStayTogether() {
+        Venue venue = new Venue("Test Hall", 1000, 100, 10, 10);
+        List<Guest> guests = guests("Alice", "Family", "Carol", "Friends", "Bob", "Family",
+                "Dave", "Friends", "Eve", "Friends", "Solo", null);
+
+        Map<Integer, List<Guest>> seating = new SeatingPlanner(venue).generateSeating(guests);
+
+        assertValid(venue, guests, seating);
+        tablesByGroup(seating).forEach((group, tables) -> assertEquals(1, tables.size(), group));
+        // Guests of a group keep their list order at the table.
+        for (List<Guest> table : seating.values()) {
+            List<String> family = table.stream().filter(g -> "Family".equals(g.getGroupTag()))
+                    .map(Guest::getName).toList();
+            assertTrue(family.isEmpty() || family.equals(List.of("Alice", "Bob")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fill whole tables with a large group and split it only as needed")
+    void testLargeGroupSplitsMinimally() {
+        Venue venue = new Venue("Small Hall", 500, 50, 5, 10);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            guests.add(new Guest("Big" + i, "big"));
+        }
+        for (int i = 0; i < 5; i++) {
+            guests.add(new Guest("Small" + i, "small"));
+        }
+
+        Map<Integer, List<Guest>> seating = new SeatingPlanner(venue).generateSeating(guests);
+
+        assertValid(venue, guests, seating);
+        Map<String, Set<Integer>> tables = tablesByGroup(seating);
+        assertEquals(3, tables.get("big").size());
+        assertEquals(1, tables.get("small").size());
+        assertEquals(3, seating.size());
+    }
+
+    @Test
+    @DisplayName("Should split a group over tables only when no table has room for all of it")
+    void testSplitWhenFragmented() {
+        // Three groups of 6 on 8-seat tables leave 2 free seats per table for a group of 4.
+        Venue venue = new Venue("Tight Hall", 100, 24, 3, 8);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 22; i++) {
+            guests.add(new Guest("Guest" + i, "group" + (i < 18 ? i / 6 : 3)));
+        }
+
+        Map<Integer, List<Guest>> seating = new SeatingPlanner(venue).generateSeating(guests);
+
+        assertValid(venue, guests, seating);
+        Map<String, Set<Integer>> tables = tablesByGroup(seating);
+        for (int g = 0; g < 3; g++) {
+            assertEquals(1, tables.get("group" + g).size());
+        }
+        assertEquals(2, tables.get("group3").size());
+    }
+
+    @Test
+    @DisplayName("Should return an empty map for no guests and reject more guests than seats")
+    void testEdgeCases() {
+        Venue venue = new Venue("Small Hall", 500, 50, 5, 10);
+        SeatingPlanner planner = new SeatingPlanner(venue);
+
+        assertTrue(planner.generateSeating(List.of()).isEmpty());
+        assertTrue(planner.generateSeating(Arrays.asList((Guest) null)).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> planner.generateSeating(Generators.GenerateGuests(51)));
+        assertValid(venue, Generators.GenerateGuests(50), planner.generateSeating(Generators.GenerateGuests(50)));
+    }
+
+    @Test
+    @DisplayName("Should seat 100k guests in many small groups")
+    void testLargeEvent() {
+        Random random = new Random(7);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(20_000)));
+        }
+        Venue venue = new Venue("Arena", 0, 110_000, 11_000, 10);
+        Map<Integer, List<Guest>> seating = new SeatingPlanner(venue).generateSeating(guests);
+
+        assertValid(venue, guests, seating);
+        // Group sizes average 5 here, so nearly every group fits at one table.
+        Map<String, Set<Integer>> tables = tablesByGroup(seating);
+        long split = tables.values().stream().filter(t -> t.size() > 1).count();
+        assertTrue(split * 20 < tables.size(), "split groups: " + split);
+    }
+
+    // Tables per group summed over groups, plus one per split group: what the optimizer minimizes.
+    private static int cost(Map<Integer, List<Guest>> seating) {
+        int cost = 0;
+        for (Set<Integer> tables : tablesByGroup(seating).values()) {
+            cost += tables.size() + (tables.size() > 1 ? 1 : 0);
+        }
+        return cost;
+    }
+
+    private static List<Guest> randomGroups(int count, int groups, long seed) {
+        Random random = new Random(seed);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(groups)));
+        }
+        return guests;
+    }
+
+    @Test
+    @DisplayName("Should improve on the packed plan and give the same plan for the same seed")
+    void testOptimizeDeterministic() {
+        Venue venue = new Venue("Full Hall", 0, 2000, 200, 10);
+        List<Guest> guests = randomGroups(2000, 300, 3);
+        SeatingPlanner planner = new SeatingPlanner(venue);
+
+        Map<Integer, List<Guest>> packed = planner.generateSeating(guests);
+        Map<Integer, List<Guest>> optimized = planner.optimizeSeating(guests, 42, 2, 400_000);
+
+        assertValid(venue, guests, optimized);
+        assertTrue(cost(optimized) < cost(packed), cost(optimized) + " vs " + cost(packed));
+        assertEquals(optimized, planner.optimizeSeating(guests, 42, 2, 400_000));
+        assertThrows(IllegalArgumentException.class, () -> planner.optimizeSeating(guests, 42, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should keep the starting plan when no moves or no time are allowed")
+    void testOptimizeWithoutMoves() {
+        // Five groups of four, dealt round-robin so every group sits at four tables.
+        int[] groupOf = new int[20];
+        int[] start = new int[20];
+        for (int guest = 0; guest < 20; guest++) {
+            groupOf[guest] = guest / 4;
+            start[guest] = guest % 4;
+        }
+        SeatingOptimizer optimizer = new SeatingOptimizer(4, 5, groupOf, 5, start.clone());
+
+        assertArrayEquals(start, optimizer.optimize(1, 42, System.nanoTime(), Long.MAX_VALUE, 0));
+        assertArrayEquals(start, optimizer.optimize(1, 42, System.nanoTime(), 0, Long.MAX_VALUE));
+        assertFalse(Arrays.equals(start, optimizer.optimize(1, 42, System.nanoTime(), Long.MAX_VALUE, 2048)));
+
+        List<Guest> guests = randomGroups(2000, 300, 3);
+        SeatingPlanner planner = new SeatingPlanner(new Venue("Full Hall", 0, 2000, 200, 10));
+        assertEquals(planner.generateSeating(guests), planner.optimizeSeating(guests, 42, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Should stop searching when the time budget runs out")
+    void testOptimizeTimeBudget() {
+        Venue venue = new Venue("Arena", 0, 22_000, 2200, 10);
+        List<Guest> guests = randomGroups(20_000, 4000, 5);
+        SeatingPlanner planner = new SeatingPlanner(venue);
+
+        long start = System.nanoTime();
+        Map<Integer, List<Guest>> optimized = planner.optimizeSeating(guests, Duration.ofMillis(300));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        // Ten times the budget: loose enough for a busy machine, tight enough to catch a search that ignores it.
+        assertTrue(millis < 3_000, "took " + millis + " ms");
+        assertValid(venue, guests, optimized);
+        assertTrue(cost(optimized) <= cost(planner.generateSeating(guests)));
+        assertTrue(planner.optimizeSeating(List.of(), Duration.ofMillis(10)).isEmpty());
+    }
+}
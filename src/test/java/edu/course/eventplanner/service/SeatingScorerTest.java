@@ -0,0 +1,75 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static edu.course.eventplanner.model.SeatingConstraint.apart;
+import static edu.course.eventplanner.model.SeatingConstraint.together;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingScorerTest {
+
+    @Test
+    @DisplayName("Should count groups per table, split groups, fill variance and broken rules")
+    void testScoreByHand() {
+        Guest alice = new Guest("Alice", "Family");
+        Guest bob = new Guest("Bob", "Family");
+        Guest carol = new Guest("Carol", "Friends");
+        Guest dave = new Guest("Dave", "Family");
+        Guest eve = new Guest("Eve", null);
+        Map<Integer, List<Guest>> seating = new LinkedHashMap<>();
+        seating.put(1, List.of(alice, bob, carol));
+        seating.put(4, List.of(dave, eve));
+
+        SeatingScore score = SeatingScorer.score(seating, List.of(apart("Alice", "Bob"), together("Alice", "Dave"),
+                together("Alice", "Bob"), apart("Carol", "Eve"), together("Alice", "Nobody")));
+
+        assertEquals(5, score.getSeatedGuests());
+        assertEquals(2, score.getOccupiedTables());
+        assertEquals(4, score.getGroupTableSum());
+        assertEquals(2.0, score.getGroupsPerTable());
+        assertEquals(1, score.getSplitGroups());
+        assertEquals(0.25, score.getFillVariance(), 1e-9);
+        assertEquals(2, score.getConstraintViolations());
+        assertEquals(5, score.getCost());
+    }
+
+    @Test
+    @DisplayName("Should give the same score for a plan and its map, and show groups seated together")
+    void testPlanAndMapAgree() {
+        Venue venue = new Venue("Test Hall", 1000, 100, 10, 10);
+        SeatingPlanner planner = new SeatingPlanner(venue);
+        List<Guest> guests = Arrays.asList(new Guest("Alice", "Family"), new Guest("Bob", "Family"),
+                new Guest("Carol", "Family"), new Guest("Dave", "Friends"), new Guest("Eve", "Friends"));
+
+        SeatingScore fromPlan = SeatingScorer.score(planner.planSeating(guests));
+        SeatingScore fromMap = SeatingScorer.score(planner.generateSeating(guests));
+
+        assertEquals(fromPlan.toString(), fromMap.toString());
+        // Both groups share one table of ten, each group whole.
+        assertEquals(2, fromPlan.getGroupTableSum());
+        assertEquals(0, fromPlan.getSplitGroups());
+        assertEquals(0, SeatingScorer.score(Map.of()).getSeatedGuests());
+    }
+
+    @Test
+    @DisplayName("Should rank the optimized plan no worse than the packed one")
+    void testComparesStrategies() {
+        Random random = new Random(17);
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            guests.add(new Guest("Guest" + i, "group" + random.nextInt(120)));
+        }
+        SeatingPlanner planner = new SeatingPlanner(new Venue("Hall", 0, 600, 60, 10));
+
+        SeatingScore packed = SeatingScorer.score(planner.generateSeating(guests));
+        SeatingScore optimized = SeatingScorer.score(planner.optimizeSeating(guests, 3, 1, 200_000));
+
+        assertTrue(optimized.getCost() <= packed.getCost(), optimized + " vs " + packed);
+        assertEquals(600, optimized.getSeatedGuests());
+    }
+}
@@ -0,0 +1,43 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskManagerTest {
+
+    private TaskManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new TaskManager();
+    }
+
+    @Test
+    @DisplayName("Should execute tasks in FIFO order and undo them in LIFO order")
+    void testExecuteAndUndo() {
+        manager.addTask(new Task("Book venue"));
+        manager.addTask(null);
+        manager.addTask(new Task("Send invitations"));
+        manager.addTask(new Task("Order cake"));
+        assertEquals(3, manager.remainingTaskCount());
+
+        assertEquals("Book venue", manager.executeNextTask().getDescription());
+        assertEquals("Send invitations", manager.executeNextTask().getDescription());
+        assertEquals("Send invitations", manager.undoLastTask().getDescription());
+        assertEquals(1, manager.remainingTaskCount());
+        assertEquals("Book venue", manager.undoLastTask().getDescription());
+        assertNull(manager.undoLastTask());
+    }
+
+    @Test
+    @DisplayName("Should return null when there is nothing to execute or undo")
+    void testEmpty() {
+        assertNull(manager.executeNextTask());
+        assertNull(manager.undoLastTask());
+        assertEquals(0, manager.remainingTaskCount());
+    }
+}
@@ -0,0 +1,110 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VenueCombinerTest {
+
+    private static double totalCost(List<Venue> venues) {
+        return venues.stream().mapToDouble(Venue::getCost).sum();
+    }
+
+    private static int totalCapacity(List<Venue> venues) {
+        return venues.stream().mapToInt(Venue::getCapacity).sum();
+    }
+
+    @Test
+    @DisplayName("Should combine venues when none holds everyone alone")
+    void testCombinesVenues() {
+        Venue hall = new Venue("Community Hall", 1500, 40, 5, 8);
+        Venue garden = new Venue("Garden Hall", 2500, 60, 8, 8);
+        Venue ballroom = new Venue("Grand Ballroom", 5000, 120, 15, 8);
+        VenueCombiner combiner = new VenueCombiner(List.of(ballroom, garden, hall));
+
+        assertEquals(List.of(hall, garden), combiner.cheapestCombination(4000, 100));
+        assertEquals(List.of(ballroom), combiner.cheapestCombination(6000, 110));
+        assertEquals(List.of(hall, ballroom), combiner.cheapestCombination(9000, 150));
+        assertEquals(List.of(hall), combiner.cheapestCombination(9000, 0));
+        assertNull(combiner.cheapestCombination(3999, 100));
+        assertNull(combiner.cheapestCombination(100_000, 221));
+        assertNull(new VenueCombiner(List.of()).cheapestCombination(1000, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VenueCombiner(List.of(new Venue("Refund", -1, 10, 1, 10))));
+    }
+
+    @Test
+    @DisplayName("Should find a set that costs exactly the budget")
+    void testExactBudget() {
+        Venue large = new Venue("Large", 50, 11, 1, 11);
+        Venue small = new Venue("Small", 10, 4, 1, 4);
+        Venue free = new Venue("Free", 0, 5, 1, 5);
+        Venue medium = new Venue("Medium", 20, 9, 1, 9);
+        VenueCombiner combiner = new VenueCombiner(List.of(large, small, free, medium));
+
+        // 10 + 11 * (50 / 11.0) rounds to just above 60, which must not prune this set.
+        assertEquals(List.of(small, free, large), combiner.cheapestCombination(60, 20));
+    }
+
+    @Test
+    @DisplayName("Should match an exhaustive search on small catalogs")
+    void testMatchesExhaustiveSearch() {
+        Random random = new Random(25);
+        for (int round = 0; round < 300; round++) {
+            List<Venue> venues = new ArrayList<>();
+            int count = 1 + random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                venues.add(new Venue("Venue" + i, 100 * (1 + random.nextInt(20)), random.nextInt(60), 1, 1));
+            }
+            double budget = 200 + random.nextInt(4000);
+            int guests = random.nextInt(200);
+
+            double expected = Double.POSITIVE_INFINITY;
+            for (int mask = 1; mask < 1 << count; mask++) {
+                double cost = 0;
+                int seats = 0;
+                for (int i = 0; i < count; i++) {
+                    if ((mask >> i & 1) != 0) {
+                        cost += venues.get(i).getCost();
+                        seats += venues.get(i).getCapacity();
+                    }
+                }
+                if (seats >= guests && cost <= budget) {
+                    expected = Math.min(expected, cost);
+                }
+            }
+
+            List<Venue> chosen = new VenueCombiner(venues).cheapestCombination(budget, guests);
+            if (expected == Double.POSITIVE_INFINITY) {
+                assertNull(chosen, "round " + round);
+            } else {
+                assertNotNull(chosen, "round " + round);
+                assertEquals(expected, totalCost(chosen), "round " + round);
+                assertTrue(totalCapacity(chosen) >= guests);
+                assertEquals(chosen.size(), chosen.stream().distinct().count());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should combine 10k venues for 50k guests")
+    void testLargeCatalog() {
+        Random random = new Random(7);
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int capacity = (1 + random.nextInt(200)) * (6 + random.nextInt(7));
+            venues.add(new Venue("Venue" + i, 200 + capacity * (5 + random.nextDouble() * 20), capacity, 1, 1));
+        }
+        List<Venue> chosen = new VenueCombiner(venues).cheapestCombination(1e7, 50_000);
+
+        assertTrue(totalCapacity(chosen) >= 50_000);
+        assertTrue(totalCost(chosen) <= 1e7);
+        assertEquals(chosen.size(), chosen.stream().distinct().count());
+    }
+}
@@ -0,0 +1,155 @@
+package edu.course.eventplanner.service;
+
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VenueSelectorTest {
+
+    private final VenueSelector selector = new VenueSelector(List.of(
+            new Venue("Small Hall", 500, 50, 5, 10),
+            new Venue("Medium Center", 1000, 100, 10, 10),
+            new Venue("Cosy Center", 1000, 90, 9, 10),
+            new Venue("Large Ballroom", 2000, 200, 20, 10)));
+
+    @Test
+    @DisplayName("Should pick the cheapest venue that fits, then the smaller one")
+    void testSelectCheapestFit() {
+        assertEquals("Small Hall", selector.selectVenue(5000, 50).getName());
+        assertEquals("Cosy Center", selector.selectVenue(1000, 80).getName());
+        assertEquals("Medium Center", selector.selectVenue(1999, 95).getName());
+        assertEquals("Large Ballroom", selector.selectVenue(2000, 101).getName());
+    }
+
+    @Test
+    @DisplayName("Should return null when nothing is affordable and large enough")
+    void testNoFit() {
+        assertNull(selector.selectVenue(400, 10));
+        assertNull(selector.selectVenue(10_000, 201));
+        assertNull(new VenueSelector(List.of()).selectVenue(1000, 1));
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan on a random catalog with ties")
+    void testMatchesLinearScan() {
+        Random random = new Random(21);
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // Few distinct costs and capacities, so ties are common.
+            venues.add(new Venue("Venue" + i, 100 * (1 + random.nextInt(30)), 10 * random.nextInt(50), 1, 1));
+        }
+        VenueSelector indexed = new VenueSelector(venues);
+
+        for (int q = 0; q < 5000; q++) {
+            double budget = random.nextInt(3200);
+            int guests = random.nextInt(520);
+            Venue expected = null;
+            for (Venue venue : venues) {
+                if (venue.getCost() <= budget && venue.getCapacity() >= guests && (expected == null
+                        || venue.getCost() < expected.getCost() || venue.getCost() == expected.getCost()
+                        && venue.getCapacity() < expected.getCapacity())) {
+                    expected = venue;
+                }
+            }
+            assertSame(expected, indexed.selectVenue(budget, guests), budget + " / " + guests);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep only venues no cheaper, larger venue beats")
+    void testSkyline() {
+        assertEquals(List.of("Small Hall", "Cosy Center", "Medium Center", "Large Ballroom"),
+                selector.getSkyline().stream().map(Venue::getName).toList());
+
+        Venue bargain = new Venue("Bargain Barn", 900, 120, 12, 10);
+        assertTrue(selector.addVenue(bargain));
+        assertFalse(selector.addVenue(bargain));
+        assertEquals(List.of("Small Hall", "Bargain Barn", "Large Ballroom"),
+                selector.getSkyline().stream().map(Venue::getName).toList());
+        assertEquals(5, selector.getVenueCount());
+        assertEquals("Bargain Barn", selector.selectVenue(1000, 80).getName());
+
+        assertTrue(selector.removeVenue(bargain));
+        assertFalse(selector.removeVenue(bargain));
+        assertEquals(4, selector.getSkylineSize());
+        assertEquals("Cosy Center", selector.selectVenue(1000, 80).getName());
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan while venues come and go")
+    void testIncrementalMatchesLinearScan() {
+        Random random = new Random(22);
+        List<Venue> catalog = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            catalog.add(new Venue("Venue" + i, 100 * (1 + random.nextInt(30)), 10 * random.nextInt(50), 1, 1));
+        }
+        VenueSelector selector = new VenueSelector(catalog);
+
+        for (int step = 0; step < 3000; step++) {
+            if (random.nextBoolean() && !catalog.isEmpty()) {
+                assertTrue(selector.removeVenue(catalog.remove(random.nextInt(catalog.size()))));
+            } else {
+                Venue venue = new Venue("New" + step, 100 * (1 + random.nextInt(30)), 10 * random.nextInt(50), 1, 1);
+                catalog.add(venue);
+                assertTrue(selector.addVenue(venue));
+            }
+            assertEquals(catalog.size(), selector.getVenueCount());
+            double budget = random.nextInt(3200);
+            int guests = random.nextInt(520);
+            Venue expected = null;
+            for (Venue venue : catalog) {
+                if (venue.getCost() <= budget && venue.getCapacity() >= guests && (expected == null
+                        || venue.getCost() < expected.getCost() || venue.getCost() == expected.getCost()
+                        && venue.getCapacity() < expected.getCapacity())) {
+                    expected = venue;
+                }
+            }
+            assertSame(expected, selector.selectVenue(budget, guests), "step " + step);
+        }
+        // At most one front venue per capacity, and cost never falls as capacity grows.
+        List<Venue> skyline = selector.getSkyline();
+        for (int i = 1; i < skyline.size(); i++) {
+            assertTrue(skyline.get(i - 1).getCapacity() < skyline.get(i).getCapacity());
+            assertTrue(skyline.get(i - 1).getCost() <= skyline.get(i).getCost());
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer a batch exactly as one query at a time")
+    void testBatchMatchesSingleQueries() {
+        Random random = new Random(23);
+        for (int scale : new int[] {10, 1_000_000}) {
+            // Small capacities go through the per-count table, huge ones through sorting the queries.
+            List<Venue> venues = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                venues.add(new Venue("Venue" + i, 100 * (1 + random.nextInt(30)), scale * random.nextInt(50), 1, 1));
+            }
+            VenueSelector selector = new VenueSelector(venues);
+            int n = 100_000;
+            double[] budgets = new double[n];
+            int[] guestCounts = new int[n];
+            for (int i = 0; i < n; i++) {
+                budgets[i] = random.nextInt(3200);
+                guestCounts[i] = random.nextInt(52 * scale) - scale;
+            }
+            for (boolean parallel : new boolean[] {false, true}) {
+                Venue[] out = new Venue[n];
+                selector.selectVenues(budgets, guestCounts, out, parallel);
+                for (int i = 0; i < n; i++) {
+                    assertSame(selector.selectVenue(budgets[i], guestCounts[i]), out[i], "query " + i);
+                }
+            }
+        }
+        Venue[] out = {selector.getSkyline().get(0)};
+        new VenueSelector(List.of()).selectVenues(new double[] {1000}, new int[] {1}, out);
+        assertNull(out[0]);
+        assertThrows(IllegalArgumentException.class,
+                () -> selector.selectVenues(new double[2], new int[2], new Venue[1]));
+    }
+}
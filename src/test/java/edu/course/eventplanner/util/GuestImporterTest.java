@@ -0,0 +1,110 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuestImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GuestListManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GuestListManager();
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("guests.csv");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    @DisplayName("Should import comma and tab separated rows in file order")
+    void testImportCsvAndTsv() throws IOException {
+        Path file = write("name,groupTag\nJohn Doe,family\r\nJane Smith\tfriends\n  Bob Johnson , coworkers\n");
+
+        ImportReport report = new GuestImporter().importGuests(file, manager);
+
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getRejected());
+        assertEquals(List.of("John Doe", "Jane Smith", "Bob Johnson"),
+                manager.getAllGuests().stream().map(Guest::getName).toList());
+        assertEquals("coworkers", manager.findGuest("Bob Johnson").getGroupTag());
+    }
+
+    @Test
+    @DisplayName("Should report duplicates and bad rows without throwing")
+    void testDuplicatesAndRejectedRows() throws IOException {
+        manager.addGuest(new Guest("Existing", "family"));
+        Path file = write("Alice,family\nno separator\n,friends\nAlice,friends\nExisting,family\n\nBob,neighbors");
+
+        ImportReport report = new GuestImporter().importGuests(file, manager);
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getDuplicates());
+        assertEquals(2, report.getRejected());
+        assertEquals(List.of(2L, 3L), report.getRejectedLines());
+        assertEquals("family", manager.findGuest("Alice").getGroupTag());
+        assertNotNull(manager.findGuest("Bob"));
+    }
+
+    @Test
+    @DisplayName("Should reject a row longer than the read buffer and keep going")
+    void testOverlongRow() throws IOException {
+        String longName = "x".repeat(200_000);
+        Path file = write("Alice,family\n" + longName + ",friends\nBob,friends\n");
+
+        ImportReport report = new GuestImporter().importGuests(file, manager);
+
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(2L), report.getRejectedLines());
+    }
+
+    @Test
+    @DisplayName("Should import across many batches and buffer refills")
+    void testLargeImport() throws IOException {
+        int n = 100_000;
+        Path file = tempDir.resolve("large.tsv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 1; i <= n; i++) {
+                writer.write("Guest" + i + "\tgroup" + (i % 4) + "\n");
+            }
+        }
+
+        ImportReport report = new GuestImporter(1_000).importGuests(file, manager);
+
+        assertEquals(n, report.getImported());
+        assertEquals(n, manager.getGuestCount());
+        assertEquals(n / 4, manager.countByGroup("group0"));
+        assertSame(manager.findGuest("Guest1").getGroupTag(), manager.findGuest("Guest5").getGroupTag());
+        assertEquals("Guest" + n, manager.getAllGuests().get(n - 1).getName());
+    }
+
+    @Test
+    @DisplayName("Should add a whole collection at once")
+    void testAddAll() {
+        manager.addGuest(new Guest("First", "family"));
+        int added = manager.addAll(List.of(new Guest("Second", "friends"), new Guest(null, "x"),
+                new Guest("Third", "family")));
+
+        assertEquals(2, added);
+        assertEquals(3, manager.getGuestCount());
+        assertEquals(2, manager.countByGroup("family"));
+        assertEquals("Third", manager.getAllGuests().get(2).getName());
+    }
+}
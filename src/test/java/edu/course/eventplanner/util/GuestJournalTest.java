@@ -0,0 +1,160 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.service.GuestListManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuestJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<String> describe(GuestListManager manager) {
+        List<String> guests = new ArrayList<>();
+        for (Guest guest : manager.getAllGuests()) {
+            guests.add(guest.getName() + "/" + guest.getGroupTag());
+        }
+        return guests;
+    }
+
+    private GuestListManager recover() throws IOException {
+        GuestListManager recovered = new GuestListManager();
+        GuestJournal.open(tempDir, recovered).close();
+        return recovered;
+    }
+
+    @Test
+    @DisplayName("Should replay adds and removes in order after reopening")
+    void testJournalRoundTrip() throws IOException {
+        GuestListManager manager = new GuestListManager();
+        try (GuestJournal journal = GuestJournal.open(tempDir, manager)) {
+            manager.addGuest(new Guest("John Doe", "family"));
+            manager.addGuest(new Guest("Zoë Ångström", null));
+            manager.addGuest(new Guest("Jane Smith", "friends"));
+            manager.removeGuest("John Doe");
+            manager.addGuest(new Guest("John Doe", "coworkers"));
+            manager.removeGuest("Nobody");
+            assertEquals(5, journal.getRecordsInJournal());
+        }
+
+        GuestListManager recovered = recover();
+        assertEquals(describe(manager), describe(recovered));
+        assertEquals(List.of("Zoë Ångström/null", "Jane Smith/friends", "John Doe/coworkers"), describe(recovered));
+    }
+
+    @Test
+    @DisplayName("Should recover from a checkpoint plus the journal written after it")
+    void testCheckpointThenJournal() throws IOException {
+        GuestListManager manager = new GuestListManager();
+        // A tiny group commit buffer forces many frames in both files.
+        try (GuestJournal journal = GuestJournal.open(tempDir, manager, 64)) {
+            for (int i = 0; i < 2000; i++) {
+                manager.addGuest(new Guest("Guest" + i, "group" + (i % 3)));
+            }
+            journal.checkpoint();
+            assertEquals(0, journal.getRecordsInJournal());
+            for (int i = 0; i < 2000; i += 2) {
+                manager.removeGuest("Guest" + i);
+            }
+            manager.addGuest(new Guest("Late Arrival", null));
+        }
+
+        GuestListManager recovered = recover();
+        assertEquals(1001, recovered.getGuestCount());
+        assertEquals(describe(manager), describe(recovered));
+        assertEquals(1000, recovered.countByGroup("group0") + recovered.countByGroup("group1")
+                + recovered.countByGroup("group2"));
+    }
+
+    @Test
+    @DisplayName("Should not replay a journal the snapshot already holds")
+    void testStaleJournalAfterCheckpoint() throws IOException {
+        GuestListManager manager = new GuestListManager();
+        Path file = tempDir.resolve(GuestJournal.JOURNAL_FILE);
+        byte[] staleJournal;
+        try (GuestJournal journal = GuestJournal.open(tempDir, manager)) {
+            manager.addGuest(new Guest("John Doe", "family"));
+            manager.addGuest(new Guest("Jane Smith", "friends"));
+            manager.removeGuest("John Doe");
+            manager.addGuest(new Guest("Bob Johnson", null));
+            journal.commit();
+            staleJournal = Files.readAllBytes(file);
+            journal.checkpoint();
+            manager.removeGuest("Bob Johnson");
+            manager.addGuest(new Guest("John Doe", "coworkers"));
+        }
+        // A crash between publishing the snapshot and truncating the journal.
+        Files.write(file, staleJournal);
+
+        GuestListManager recovered = recover();
+        assertEquals(List.of("Jane Smith/friends", "Bob Johnson/null"), describe(recovered));
+        assertEquals(2, recovered.getGuestCount());
+
+        // Recovery started a fresh journal, so later changes survive the next reopen.
+        GuestListManager reopened = new GuestListManager();
+        try (GuestJournal journal = GuestJournal.open(tempDir, reopened)) {
+            assertEquals(0, journal.getRecordsInJournal());
+            reopened.addGuest(new Guest("Late Arrival", null));
+        }
+        assertEquals(List.of("Jane Smith/friends", "Bob Johnson/null", "Late Arrival/null"), describe(recover()));
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn frame at the end of the journal and keep appending")
+    void testTornTailIsTruncated() throws IOException {
+        GuestListManager manager = new GuestListManager();
+        try (GuestJournal journal = GuestJournal.open(tempDir, manager)) {
+            manager.addGuest(new Guest("John Doe", "family"));
+            journal.commit();
+            manager.addGuest(new Guest("Jane Smith", "friends"));
+        }
+        Path file = tempDir.resolve(GuestJournal.JOURNAL_FILE);
+        long goodSize = Files.size(file);
+        // Half of a frame: a length that runs past the end of the file.
+        Files.write(file, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        GuestListManager recovered = new GuestListManager();
+        try (GuestJournal journal = GuestJournal.open(tempDir, recovered)) {
+            assertEquals(goodSize, Files.size(file));
+            assertEquals(2, journal.getRecordsInJournal());
+            recovered.addGuest(new Guest("Bob Johnson", null));
+        }
+        assertEquals(List.of("John Doe/family", "Jane Smith/friends", "Bob Johnson/null"), describe(recover()));
+    }
+
+    @Test
+    @DisplayName("Should stop replaying at a frame whose checksum does not match")
+    void testCorruptFrameIsDropped() throws IOException {
+        GuestListManager manager = new GuestListManager();
+        try (GuestJournal journal = GuestJournal.open(tempDir, manager)) {
+            manager.addGuest(new Guest("John Doe", "family"));
+            journal.commit();
+            manager.addGuest(new Guest("Jane Smith", "friends"));
+        }
+        Path file = tempDir.resolve(GuestJournal.JOURNAL_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(file, bytes);
+
+        assertEquals(List.of("John Doe/family"), describe(recover()));
+    }
+
+    @Test
+    @DisplayName("Should only recover into an empty guest list")
+    void testRejectsNonEmptyManager() {
+        GuestListManager manager = new GuestListManager();
+        manager.addGuest(new Guest("John Doe", "family"));
+        assertThrows(IllegalArgumentException.class, () -> GuestJournal.open(tempDir, manager));
+    }
+}
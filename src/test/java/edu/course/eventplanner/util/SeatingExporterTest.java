@@ -0,0 +1,84 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Guest;
+import edu.course.eventplanner.model.Venue;
+import edu.course.eventplanner.service.SeatingPlan;
+import edu.course.eventplanner.service.SeatingPlanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static SeatingPlan plan(List<Guest> guests) {
+        return new SeatingPlanner(new Venue("Hall", 0, 20, 2, 10)).planSeating(guests);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields that need it and encode names as UTF-8")
+    void testCsv() throws IOException {
+        SeatingPlan plan = plan(List.of(new Guest("Doe, John", "family"), new Guest("Zoë \"Z\" Ångström", "family"),
+                new Guest("Emoji 😀", null), new Guest("Two\nLines", "x")));
+        Path file = tempDir.resolve("seating.csv");
+
+        long bytes = new SeatingExporter().writeCsv(plan, file);
+
+        assertEquals(Files.size(file), bytes);
+        assertEquals("table,name,group\n"
+                + "1,\"Doe, John\",family\n"
+                + "1,\"Zoë \"\"Z\"\" Ångström\",family\n"
+                + "1,Emoji 😀,\n"
+                + "1,\"Two\nLines\",x\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should escape JSON strings and write null groups as null")
+    void testJson() throws IOException {
+        SeatingPlan plan = new SeatingPlanner(new Venue("Hall", 0, 4, 2, 2)).planSeating(List.of(
+                new Guest("Back\\slash \"q\"", "a"), new Guest("Tab\there", "a"),
+                new Guest("Bell\u0007", null), new Guest("Ünïcødé 😀", "b")));
+        Path file = tempDir.resolve("seating.json");
+
+        new SeatingExporter().writeJson(plan, file);
+
+        assertEquals("{\"tables\":[\n"
+                + "{\"table\":1,\"guests\":[{\"name\":\"Back\\\\slash \\\"q\\\"\",\"group\":\"a\"},"
+                + "{\"name\":\"Tab\\there\",\"group\":\"a\"}]},\n"
+                + "{\"table\":2,\"guests\":[{\"name\":\"Bell\\u0007\",\"group\":null},"
+                + "{\"name\":\"Ünïcødé 😀\",\"group\":\"b\"}]}\n"
+                + "]}\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes whatever the buffer size")
+    void testSmallBuffer() throws IOException {
+        List<Guest> guests = Generators.GenerateGuests(5000);
+        guests.set(17, new Guest("Ünïcødé 😀 \"quoted\", name", "family"));
+        SeatingPlan plan = new SeatingPlanner(new Venue("Hall", 0, 5000, 500, 10)).planSeating(guests);
+        SeatingExporter small = new SeatingExporter(64);
+        SeatingExporter large = new SeatingExporter();
+
+        small.writeCsv(plan, tempDir.resolve("small.csv"));
+        large.writeCsv(plan, tempDir.resolve("large.csv"));
+        small.writeJson(plan, tempDir.resolve("small.json"));
+        large.writeJson(plan, tempDir.resolve("large.json"));
+
+        assertArrayEquals(Files.readAllBytes(tempDir.resolve("large.csv")),
+                Files.readAllBytes(tempDir.resolve("small.csv")));
+        assertArrayEquals(Files.readAllBytes(tempDir.resolve("large.json")),
+                Files.readAllBytes(tempDir.resolve("small.json")));
+        assertEquals(5001, Files.readAllLines(tempDir.resolve("large.csv")).size());
+        assertThrows(IllegalArgumentException.class, () -> new SeatingExporter(8));
+    }
+}
@@ -0,0 +1,158 @@
+package edu.course.eventplanner.util;
+
+import edu.course.eventplanner.model.Venue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VenueCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static List<String> names(VenueCatalog catalog) {
+        return catalog.getSelector().getSkyline().stream().map(Venue::getName).toList();
+    }
+
+    @Test
+    @DisplayName("Should load CSV rows with a header, quotes and CRLF line ends")
+    void testLoadCsv() throws IOException {
+        Path file = write("venues.csv", "\uFEFFname,cost,capacity,tables,seatsPerTable\r\n"
+                + "Community Hall,1500,40,5,8\r\n"
+                + "\"Garden \"\"Green\"\" Hall, East\", 2500.50 ,60,8,8\n"
+                + "\n"
+                + "  Grand Ballroom ,5000,120,15,8");
+
+        VenueCatalog catalog = VenueCatalog.open(file);
+
+        assertEquals(3, catalog.getReport().getImported());
+        assertEquals(0, catalog.getReport().getRejected());
+        assertEquals(List.of("Community Hall", "Garden \"Green\" Hall, East", "Grand Ballroom"), names(catalog));
+        Venue garden = catalog.selectVenue(3000, 50);
+        assertEquals(2500.5, garden.getCost());
+        assertEquals(60, garden.getCapacity());
+        assertEquals(8, garden.getSeatsPerTable());
+    }
+
+    @Test
+    @DisplayName("Should skip and report malformed CSV rows")
+    void testRejectsBadRows() throws IOException {
+        Path file = write("venues.csv", "Good,100,10,1,10\n"
+                + "Missing,100,10,1\n"
+                + "Negative,-5,10,1,10\n"
+                + "Letters,1e3,10,1,10\n"
+                + "Extra,100,10,1,10,7\n"
+                + ",100,10,1,10\n"
+                + "Huge,100,99999999999,1,10\n"
+                + "Precise,0.1000000000000000055511151231257827,10,1,10\n");
+
+        VenueCatalog catalog = VenueCatalog.open(file);
+
+        assertEquals(2, catalog.getReport().getImported());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), catalog.getReport().getRejectedLines());
+        assertEquals(0.1, catalog.selectVenue(1, 10).getCost());
+    }
+
+    @Test
+    @DisplayName("Should round-trip venues through the binary format")
+    void testBinaryRoundTrip() throws IOException {
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            venues.add(new Venue("Salle " + i + " été", 100 + i * 0.25, i % 700, i % 70 + 1, 10));
+        }
+        Path file = tempDir.resolve("venues.bin");
+        VenueCatalog.writeBinary(venues, file, 24);
+
+        VenueCatalog catalog = VenueCatalog.open(file);
+
+        assertEquals(5000, catalog.getReport().getImported());
+        assertEquals(5000, catalog.getSelector().getVenueCount());
+        Venue picked = catalog.selectVenue(1000, 650);
+        assertEquals("Salle 650 été", picked.getName());
+        assertEquals(262.5, picked.getCost());
+        assertEquals(650 % 70 + 1, picked.getTables());
+        assertThrows(IllegalArgumentException.class,
+                () -> VenueCatalog.writeBinary(List.of(new Venue("A very long venue name", 1, 1, 1, 1)), file, 8));
+    }
+
+    @Test
+    @DisplayName("Should refuse a binary file cut short")
+    void testDamagedBinary() throws IOException {
+        Path file = tempDir.resolve("venues.bin");
+        VenueCatalog.writeBinary(List.of(new Venue("Hall", 100, 10, 1, 10), new Venue("Barn", 50, 20, 2, 10)), file, 16);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> VenueCatalog.open(file));
+    }
+
+    @Test
+    @DisplayName("Should refuse a binary header with an impossible name width")
+    void testHugeNameWidth() throws IOException {
+        Path file = tempDir.resolve("venues.bin");
+        // Magic "VENU", a name width whose record size overflows an int, and no venues.
+        Files.write(file, ByteBuffer.allocate(12).putInt(0x56454E55).putInt(Integer.MAX_VALUE - 10).putInt(0).array());
+
+        IOException damaged = assertThrows(IOException.class, () -> VenueCatalog.open(file));
+        assertTrue(damaged.getMessage().contains("damaged"), damaged.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> VenueCatalog.writeBinary(List.of(), file, Integer.MAX_VALUE - 10));
+
+        VenueCatalog.writeBinary(List.of(), file, 24);
+        assertEquals(0, VenueCatalog.open(file).getSelector().getVenueCount());
+    }
+
+    @Test
+    @DisplayName("Should swap in a replaced file while queries keep running")
+    void testHotReload() throws Exception {
+        Path file = write("venues.csv", "Old Hall,1000,100,10,10\n");
+        VenueCatalog catalog = VenueCatalog.open(file);
+        assertFalse(catalog.reloadIfChanged());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> unexpected = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                Venue venue = catalog.selectVenue(1000, 50);
+                if (venue == null || !venue.getName().equals("Old Hall") && !venue.getName().equals("New Hall")) {
+                    unexpected.set(String.valueOf(venue));
+                }
+            }
+        });
+        reader.start();
+        Path next = write("venues.next", "New Hall,800,100,10,10\nBroken row\n");
+        Files.setLastModifiedTime(next, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        assertTrue(catalog.reloadIfChanged());
+        running.set(false);
+        reader.join();
+
+        assertNull(unexpected.get());
+        assertEquals("New Hall", catalog.selectVenue(1000, 50).getName());
+        assertEquals(List.of(2L), catalog.getReport().getRejectedLines());
+
+        Files.delete(file);
+        assertThrows(IOException.class, catalog::reload);
+        assertEquals("New Hall", catalog.selectVenue(1000, 50).getName());
+    }
+}